@@ -0,0 +1,85 @@
+package game.Benchmark;
+
+import game.Model.characters.Warrior;
+import game.Model.engine.GameWorld;
+import game.Model.map.GameMap;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the platform-thread pool with virtual threads for the enemy tasks.
+ *
+ * <p>
+ * For every enemy count a board is sized so that the world spawns about that many enemies,
+ * the game is started with each {@link GameWorld.ExecutorMode} and the enemy actions that
+ * finished during the run are counted. Every enemy asks to act once every 500-1500 ms, so the
+ * demand is about one action per enemy per second; a mode that cannot keep up runs fewer.
+ * The console output of the game (blocked moves and so on) is muted while measuring.
+ * </p>
+ *
+ * <p>
+ * Usage: {@code EnemyExecutorBenchmark [seconds] [enemyCount...]}
+ * </p>
+ */
+public class EnemyExecutorBenchmark {
+
+    // share of the cells that end up with an enemy, see GameWorld.initializeEnemies
+    private static final double ENEMY_DENSITY = 0.3 * 0.7;
+
+    public static void main(String[] args) throws InterruptedException {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        List<Integer> counts = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            counts.add(Integer.parseInt(args[i]));
+        }
+        if (counts.isEmpty()) {
+            counts = List.of(100, 1_000, 10_000);
+        }
+
+        PrintStream console = System.out;
+        PrintStream muted = new PrintStream(OutputStream.nullOutputStream());
+
+        console.printf("%ds per run%n", seconds);
+        for (int count : counts) {
+            for (GameWorld.ExecutorMode mode : GameWorld.ExecutorMode.values()) {
+                System.setOut(muted);
+                String result;
+                try {
+                    result = run(mode, count, seconds);
+                } finally {
+                    System.setOut(console);
+                }
+                console.println(result);
+            }
+        }
+        System.exit(0);
+    }
+
+    private static String run(GameWorld.ExecutorMode mode, int count, int seconds) throws InterruptedException {
+        int size = Math.max(10, (int) Math.ceil(Math.sqrt(count / ENEMY_DENSITY)));
+
+        GameWorld.resetInstance();
+        GameWorld world = GameWorld.getInstance();
+        world.setExecutorMode(mode);
+        Warrior player = new Warrior("bench");
+        world.initialize(List.of(player), new ArrayList<>(), new ArrayList<>());
+        GameMap map = new GameMap(size, size, player, world);
+        world.setMap(map);
+        int enemies = world.getEnemies().size();
+
+        world.startGame();
+        long actionsBefore = world.getEnemyActionCount();
+        long start = System.nanoTime();
+        Thread.sleep(seconds * 1000L);
+        long actions = world.getEnemyActionCount() - actionsBefore;
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        GameMap.LockStats locks = map.getLockStats();
+        world.stopGame();
+
+        return String.format("%-8s enemies=%,6d board=%dx%d actions/s=%,10.0f demand/s=~%,d contended=%d timeouts=%d",
+                mode, enemies, size, size, actions / elapsed, enemies, locks.getContended(), locks.getTimeouts());
+    }
+}
@@ -0,0 +1,115 @@
+package game.Benchmark;
+
+import game.Model.characters.Warrior;
+import game.Model.core.GameEntity;
+import game.Model.engine.GameWorld;
+import game.Model.items.Potion;
+import game.Model.map.GameMap;
+import game.Model.map.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read-heavy benchmark for {@link GameMap}.
+ *
+ * <p>
+ * A few writer threads keep adding and removing potions at random cells while many reader
+ * threads call {@link GameMap#getEntities(Position)}, {@link GameMap#isPositionFree(Position)}
+ * and {@link GameMap#queryRadius(Position, int, Class)}, the calls made by the map panel,
+ * the controller and the factories. Every lock mode is measured and the reads per second
+ * are printed together with the lock counters of the map, so the share of optimistic reads
+ * that had to be repeated under the lock is visible.
+ * </p>
+ *
+ * <p>
+ * Usage: {@code MapReadBenchmark [size] [readers] [writers] [seconds]}
+ * </p>
+ */
+public class MapReadBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int readers = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int writers = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+
+        System.out.printf("map %dx%d, %d readers, %d writers, %ds per run%n", size, size, readers, writers, seconds);
+        for (GameMap.LockMode mode : GameMap.LockMode.values()) {
+            run(mode, size, readers, writers, seconds);
+        }
+        System.exit(0);
+    }
+
+    private static void run(GameMap.LockMode mode, int size, int readers, int writers, int seconds)
+            throws InterruptedException {
+        Warrior player = new Warrior("bench");
+        GameWorld.resetInstance();
+        GameWorld world = GameWorld.getInstance();
+        world.initialize(List.of(player), new ArrayList<>(), new ArrayList<>());
+        GameMap map = new GameMap(size, size, player, world, GameMap.StorageMode.DENSE, mode);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder reads = new LongAdder();
+        LongAdder writes = new LongAdder();
+        CountDownLatch done = new CountDownLatch(readers + writers);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < writers; i++) {
+            long seed = i;
+            threads.add(new Thread(() -> {
+                Random rand = new Random(seed);
+                List<GameEntity> placed = new ArrayList<>();
+                while (running.get()) {
+                    if (placed.size() < 64) {
+                        Position pos = map.positionAt(rand.nextInt(size), rand.nextInt(size));
+                        Potion potion = new Potion(pos);
+                        if (map.addEntity(pos, potion)) placed.add(potion);
+                    } else {
+                        map.removeEntity(placed.remove(rand.nextInt(placed.size())));
+                    }
+                    writes.increment();
+                }
+                done.countDown();
+            }, "BenchWriter-" + i));
+        }
+
+        for (int i = 0; i < readers; i++) {
+            long seed = 1000 + i;
+            threads.add(new Thread(() -> {
+                Random rand = new Random(seed);
+                long count = 0;
+                while (running.get()) {
+                    Position pos = map.positionAt(rand.nextInt(size), rand.nextInt(size));
+                    switch (rand.nextInt(3)) {
+                        case 0 -> map.getEntities(pos);
+                        case 1 -> map.isPositionFree(pos);
+                        default -> map.queryRadius(pos, 2, GameEntity.class);
+                    }
+                    count++;
+                }
+                reads.add(count);
+                done.countDown();
+            }, "BenchReader-" + i));
+        }
+
+        GameMap.LockStats before = map.getLockStats();
+        long start = System.nanoTime();
+        threads.forEach(Thread::start);
+        Thread.sleep(seconds * 1000L);
+        running.set(false);
+        done.await();
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        GameMap.LockStats after = map.getLockStats();
+
+        long optimistic = after.getOptimisticReads() - before.getOptimisticReads();
+        long retries = after.getReadRetries() - before.getReadRetries();
+        System.out.printf("%-8s reads/s=%,.0f writes/s=%,.0f retried=%.3f%% [%s]%n",
+                mode, reads.sum() / elapsed, writes.sum() / elapsed,
+                optimistic == 0 ? 0.0 : 100.0 * retries / optimistic, after);
+    }
+}
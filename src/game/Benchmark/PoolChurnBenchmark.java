@@ -0,0 +1,119 @@
+package game.Benchmark;
+
+import game.Model.Factory.EnemyFactory;
+import game.Model.Factory.EntityPools;
+import game.Model.characters.Enemy;
+import game.Model.characters.StatStore;
+import game.Model.characters.Warrior;
+import game.Model.combat.CombatSystem;
+import game.Model.core.Pool;
+import game.Model.items.Treasure;
+import game.Model.map.Position;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures what recycling enemies and loot saves during combat with a lot of deaths.
+ *
+ * <p>
+ * Every round an enemy is made through the {@link EnemyFactory}, fights the player until it
+ * dies, drops its treasure, and both are given back to the {@link EntityPools}, which is what
+ * the game does after a kill and a pickup. The run is done once with the pools turned off and
+ * once with them on; for each the bytes allocated by the benchmark thread, the allocation rate
+ * and the garbage collections are reported, together with how many entities were new.
+ * The combat itself allocates too, so the difference is what the pools save.
+ * </p>
+ *
+ * <p>
+ * Usage: {@code PoolChurnBenchmark [rounds]}
+ * </p>
+ */
+public class PoolChurnBenchmark {
+
+    private static final String[] TYPES = {"Goblin", "Orc", "Dragon"};
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+
+        PrintStream console = System.out;
+        PrintStream muted = new PrintStream(OutputStream.nullOutputStream());
+
+        console.printf("%,d rounds per run%n", rounds);
+        for (boolean pooled : new boolean[]{false, true}) {
+            System.setOut(muted);
+            String result;
+            try {
+                run(pooled, rounds / 10); // warm up
+                result = run(pooled, rounds);
+            } finally {
+                System.setOut(console);
+            }
+            console.println(result);
+        }
+        for (Pool<?> pool : EntityPools.getPools()) {
+            console.println("  " + pool);
+        }
+        System.exit(0);
+    }
+
+    private static String run(boolean pooled, int rounds) {
+        EntityPools.setCapacity(pooled ? EntityPools.DEFAULT_CAPACITY : 0);
+        EntityPools.resetCounters();
+
+        Warrior player = new Warrior("bench");
+        player.setPosition(new Position(0, 0));
+        Position enemyCell = new Position(0, 1);
+
+        System.gc();
+        long gcCount = gcCount();
+        long gcMillis = gcMillis();
+        long bytes = allocatedBytes();
+        long start = System.nanoTime();
+
+        for (int r = 0; r < rounds; r++) {
+            Enemy enemy = EnemyFactory.instantiateByType(TYPES[r % TYPES.length]);
+            enemy.setPosition(enemyCell);
+            while (!enemy.isDead()) {
+                player.setHealth(100);
+                CombatSystem.resolveCombat(player, enemy);
+            }
+            Treasure loot = enemy.defeat();
+            loot.setVisible(true);
+            EntityPools.recycle(enemy);
+            EntityPools.recycle(loot);
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long allocated = allocatedBytes() - bytes;
+        long created = 0;
+        for (Pool<?> pool : EntityPools.getPools()) {
+            created += pool.getMisses();
+        }
+        return String.format("pools=%-3s rounds=%,d time=%.2fs allocated=%,.1fMB (%,d B/round, %,.0f MB/s) gc=%d (%dms) newEntities=%,d statSlots=%,d",
+                pooled ? "on" : "off", rounds, seconds, allocated / 1e6, allocated / rounds, allocated / 1e6 / seconds,
+                gcCount() - gcCount, gcMillis() - gcMillis, created, StatStore.getInstance().getLiveSlots());
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    private static long gcCount() {
+        long n = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            n += Math.max(0, gc.getCollectionCount());
+        }
+        return n;
+    }
+
+    private static long gcMillis() {
+        long n = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            n += Math.max(0, gc.getCollectionTime());
+        }
+        return n;
+    }
+}
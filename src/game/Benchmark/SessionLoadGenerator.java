@@ -0,0 +1,123 @@
+package game.Benchmark;
+
+import game.Controller.GameController;
+import game.Model.characters.PlayerCharacter;
+import game.Model.characters.Warrior;
+import game.Model.engine.GameWorld;
+import game.Model.map.GameMap;
+import game.Model.map.Position;
+import game.Server.GameSession;
+import game.Server.LatencyHistogram;
+import game.Server.SessionDriver;
+import game.Server.SessionHost;
+import game.Util.GameLogger;
+import game.Util.SoundPlayer;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-process load generator for the {@link SessionHost}.
+ *
+ * <p>
+ * For every session count a host with one worker per core is started, that many sessions are
+ * opened (each a small world of its own, logs dropped) and a random bot clicks a neighbouring
+ * cell every tick of every session, like a player would. After the run the tick latency over all
+ * sessions, the skipped ticks and the resulting sessions per core are printed. A load is marked
+ * healthy when the p99 tick latency stays within one tick and less than 1% of the ticks are
+ * skipped.
+ * </p>
+ *
+ * <p>
+ * Usage: {@code SessionLoadGenerator [seconds] [boardSize] [sessionCount...]}
+ * </p>
+ */
+public class SessionLoadGenerator {
+
+    private static final long TICK_MS = 50;
+    private static final long TICK_BUDGET_NANOS = 2_000_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        int board = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        List<Integer> counts = new ArrayList<>();
+        for (int i = 2; i < args.length; i++) {
+            counts.add(Integer.parseInt(args[i]));
+        }
+        if (counts.isEmpty()) {
+            counts = List.of(100, 500, 1_000, 2_000);
+        }
+
+        SoundPlayer.setEnabled(false);
+        PrintStream console = System.out;
+        int cores = Runtime.getRuntime().availableProcessors();
+        console.printf("%d cores, board %dx%d, tick %dms, budget %.1fms, %ds per run%n",
+                cores, board, board, TICK_MS, TICK_BUDGET_NANOS / 1e6, seconds);
+
+        for (int count : counts) {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            String result;
+            try {
+                result = run(count, board, seconds, cores);
+            } finally {
+                System.setOut(console);
+            }
+            console.println(result);
+        }
+        System.exit(0);
+    }
+
+    private static String run(int count, int board, int seconds, int cores) throws InterruptedException {
+        int enemies = 0;
+        try (SessionHost host = new SessionHost(cores, TICK_MS, TICK_BUDGET_NANOS)) {
+            for (int i = 0; i < count; i++) {
+                GameWorld world = GameWorld.create(new GameLogger(null));
+                Warrior player = new Warrior("load-" + i);
+                world.runInWorld(() -> {
+                    world.initialize(List.of(player), new ArrayList<>(), new ArrayList<>());
+                    world.setMap(new GameMap(board, board, player, world));
+                });
+                enemies += world.getEnemies().size();
+                host.open(world, randomBot(world));
+            }
+
+            long start = System.nanoTime();
+            Thread.sleep(seconds * 1000L);
+            double elapsed = (System.nanoTime() - start) / 1e9;
+
+            LatencyHistogram latency = host.getTickLatency();
+            long ticks = host.getTickCount();
+            long skipped = host.getSkippedTicks();
+            double skippedShare = (ticks + skipped) == 0 ? 0 : (double) skipped / (ticks + skipped);
+            boolean healthy = latency.getPercentileNanos(99) <= TICK_MS * 1_000_000L && skippedShare < 0.01;
+
+            return String.format("sessions=%,5d enemies=%,7d ticks/s=%,9.0f skipped=%.2f%% sessions/core=%,6.0f %s [%s]",
+                    count, enemies, ticks / elapsed, skippedShare * 100, (double) count / cores,
+                    healthy ? "healthy" : "OVERLOADED", latency);
+        }
+    }
+
+    private static SessionDriver randomBot(GameWorld world) {
+        GameController controller = new GameController(world);
+        return w -> {
+            PlayerCharacter player = w.getPlayers().get(0);
+            if (player.isDead()) return;
+            Position pos = player.getPosition();
+            GameMap map = w.getMap();
+            int row = pos.getRow();
+            int col = pos.getCol();
+            switch (ThreadLocalRandom.current().nextInt(4)) {
+                case 0 -> row--;
+                case 1 -> row++;
+                case 2 -> col--;
+                default -> col++;
+            }
+            if (row >= 0 && row < map.getNumRows() && col >= 0 && col < map.getNumCols()) {
+                controller.onLeftClick(map.positionAt(row, col));
+            }
+        };
+    }
+}
@@ -11,6 +11,7 @@ import game.Model.core.GameEntity;
 import game.Model.engine.GameWorld;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 public class GameController {
     private final GameWorld world;
 
@@ -19,7 +20,12 @@ public class GameController {
     }
 
 
-    public void onLeftClick(Position pos) {
+    /**
+     * Turns a click on a cell into a player command and queues it: a pick-up next to the player,
+     * an attack on a visible enemy, or else a move. The command is applied on the simulation
+     * thread of the world; the returned future completes with its result.
+     */
+    public CompletableFuture<?> onLeftClick(Position pos) {
         PlayerCharacter player = world.getPlayers().get(0);
         int dist = player.getPosition().distanceTo(pos);
 
@@ -29,22 +35,29 @@ public class GameController {
                     && (e instanceof Potion
                     || e instanceof PowerPotion
                     || e instanceof Treasure)) {
-                world.pickUpItem((GameItem)e);
-                return;
+                return world.submit(new PlayerCommand.PickUp((GameItem) e));
             }
         }
 
         for (GameEntity e : world.getMap().getEntities(pos)) {
             if (e instanceof Enemy enemy && enemy.getVisible()) {
-                world.attack(enemy);
-                return;
+                return world.submit(new PlayerCommand.Attack(enemy));
             }
         }
 
-        boolean moved = world.movePlayer(pos);
-        if (!moved) {
-            System.out.println("Can't move there!");
-        }
+        return world.submit(new PlayerCommand.Move(pos)).thenApply(moved -> {
+            if (!moved) {
+                System.out.println("Can't move there!");
+            }
+            return moved;
+        });
+    }
+
+    /**
+     * queues the use of an inventory item
+     */
+    public CompletableFuture<Boolean> onUseItem(GameItem item) {
+        return world.submit(new PlayerCommand.UseItem(item));
     }
 
     public void onRightClick(Position pos) {
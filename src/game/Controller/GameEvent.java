@@ -0,0 +1,311 @@
+package game.Controller;
+
+import game.Model.characters.AbstractCharacter;
+import game.Model.characters.PlayerCharacter;
+import game.Model.combat.BattleResult;
+import game.Model.combat.CombatRound;
+import game.Model.core.GameEntity;
+import game.Model.items.GameItem;
+import game.Model.map.Position;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One change of the model, delivered to {@link GameObserver#onEvents(List)}.
+ *
+ * <p>
+ * Every event names the entities it is about (with their ids) and the cells it touched, so an
+ * observer can update just those instead of scanning the whole world. Events are immutable.
+ * The id is taken when the event is made, so it still names the right entity after a dead
+ * enemy or a picked up treasure was recycled for a new one.
+ * </p>
+ */
+public abstract class GameEvent {
+
+    private GameEvent() {
+    }
+
+    /**
+     * returns the cells this event changed, never null
+     */
+    public abstract List<Position> getPositions();
+
+    /**
+     * An entity went from one cell to a neighbouring one.
+     */
+    public static final class EntityMoved extends GameEvent {
+        private final GameEntity entity;
+        private final long entityId;
+        private final Position from;
+        private final Position to;
+
+        public EntityMoved(GameEntity entity, Position from, Position to) {
+            this.entity = entity;
+            this.entityId = entity.getId();
+            this.from = from;
+            this.to = to;
+        }
+
+        public GameEntity getEntity() { return entity; }
+        public long getEntityId() { return entityId; }
+        public Position getFrom() { return from; }
+        public Position getTo() { return to; }
+
+        @Override
+        public List<Position> getPositions() { return List.of(from, to); }
+
+        @Override
+        public String toString() { return "EntityMoved[" + entity.getDisplaySymbol() + " " + from + " -> " + to + "]"; }
+    }
+
+    /**
+     * An entity was put on the map.
+     */
+    public static final class EntitySpawned extends GameEvent {
+        private final GameEntity entity;
+        private final long entityId;
+        private final Position at;
+
+        public EntitySpawned(GameEntity entity, Position at) {
+            this.entity = entity;
+            this.entityId = entity.getId();
+            this.at = at;
+        }
+
+        public GameEntity getEntity() { return entity; }
+        public long getEntityId() { return entityId; }
+        public Position getAt() { return at; }
+
+        @Override
+        public List<Position> getPositions() { return List.of(at); }
+
+        @Override
+        public String toString() { return "EntitySpawned[" + entity.getDisplaySymbol() + " at " + at + "]"; }
+    }
+
+    /**
+     * An entity was taken off the map, because it was picked up, died or teleported.
+     */
+    public static final class EntityRemoved extends GameEvent {
+        private final GameEntity entity;
+        private final long entityId;
+        private final Position at;
+
+        public EntityRemoved(GameEntity entity, Position at) {
+            this.entity = entity;
+            this.entityId = entity.getId();
+            this.at = at;
+        }
+
+        public GameEntity getEntity() { return entity; }
+        public long getEntityId() { return entityId; }
+        public Position getAt() { return at; }
+
+        @Override
+        public List<Position> getPositions() { return List.of(at); }
+
+        @Override
+        public String toString() { return "EntityRemoved[" + entity.getDisplaySymbol() + " at " + at + "]"; }
+    }
+
+    /**
+     * A character ran out of health.
+     */
+    public static final class EntityDied extends GameEvent {
+        private final AbstractCharacter character;
+        private final long entityId;
+        private final Position at;
+
+        public EntityDied(AbstractCharacter character, Position at) {
+            this.character = character;
+            this.entityId = character.getId();
+            this.at = at;
+        }
+
+        public AbstractCharacter getCharacter() { return character; }
+        public long getEntityId() { return entityId; }
+        public Position getAt() { return at; }
+
+        @Override
+        public List<Position> getPositions() { return List.of(at); }
+
+        @Override
+        public String toString() { return "EntityDied[" + character.getDisplaySymbol() + " at " + at + "]"; }
+    }
+
+    /**
+     * The player fought an enemy.
+     */
+    public static final class CombatResolved extends GameEvent {
+        private final BattleResult result;
+        private final PlayerCharacter player;
+        private final AbstractCharacter enemy;
+        private final Position playerPosition;
+        private final Position enemyPosition;
+
+        public CombatResolved(BattleResult result, PlayerCharacter player, AbstractCharacter enemy,
+                              Position playerPosition, Position enemyPosition) {
+            this.result = result;
+            this.player = player;
+            this.enemy = enemy;
+            this.playerPosition = playerPosition;
+            this.enemyPosition = enemyPosition;
+        }
+
+        public BattleResult getResult() { return result; }
+        public PlayerCharacter getPlayer() { return player; }
+        public AbstractCharacter getEnemy() { return enemy; }
+        public Position getPlayerPosition() { return playerPosition; }
+        public Position getEnemyPosition() { return enemyPosition; }
+
+        @Override
+        public List<Position> getPositions() { return List.of(playerPosition, enemyPosition); }
+
+        @Override
+        public String toString() { return "CombatResolved[" + result + " at " + enemyPosition + "]"; }
+    }
+
+    /**
+     * One round of a fight was played, the {@link CombatResolved} event follows when it is over.
+     */
+    public static final class CombatRoundPlayed extends GameEvent {
+        private final CombatRound round;
+        private final PlayerCharacter player;
+        private final AbstractCharacter enemy;
+        private final Position playerPosition;
+        private final Position enemyPosition;
+
+        public CombatRoundPlayed(CombatRound round, PlayerCharacter player, AbstractCharacter enemy,
+                                 Position playerPosition, Position enemyPosition) {
+            this.round = round;
+            this.player = player;
+            this.enemy = enemy;
+            this.playerPosition = playerPosition;
+            this.enemyPosition = enemyPosition;
+        }
+
+        public CombatRound getRound() { return round; }
+        public PlayerCharacter getPlayer() { return player; }
+        public AbstractCharacter getEnemy() { return enemy; }
+        public Position getPlayerPosition() { return playerPosition; }
+        public Position getEnemyPosition() { return enemyPosition; }
+
+        @Override
+        public List<Position> getPositions() { return List.of(playerPosition, enemyPosition); }
+
+        @Override
+        public String toString() { return "CombatRoundPlayed[" + round + "]"; }
+    }
+
+    /**
+     * The player picked up an item.
+     */
+    public static final class ItemPickedUp extends GameEvent {
+        private final PlayerCharacter player;
+        private final GameItem item;
+        private final long entityId;
+        private final Position at;
+
+        public ItemPickedUp(PlayerCharacter player, GameItem item, Position at) {
+            this.player = player;
+            this.item = item;
+            this.entityId = item.getId();
+            this.at = at;
+        }
+
+        public PlayerCharacter getPlayer() { return player; }
+        public GameItem getItem() { return item; }
+        public long getEntityId() { return entityId; }
+        public Position getAt() { return at; }
+
+        @Override
+        public List<Position> getPositions() { return List.of(at); }
+
+        @Override
+        public String toString() { return "ItemPickedUp[" + item.getDisplaySymbol() + " at " + at + "]"; }
+    }
+
+    /**
+     * A magic wave hit every living character.
+     */
+    public static final class WaveApplied extends GameEvent {
+
+        public enum Kind { DAMAGE, POWER }
+
+        private final Kind kind;
+        private final int amount;
+        private final List<Position> positions;
+
+        public WaveApplied(Kind kind, int amount, List<Position> positions) {
+            this.kind = kind;
+            this.amount = amount;
+            this.positions = positions.stream().filter(Objects::nonNull).toList();
+        }
+
+        public Kind getKind() { return kind; }
+        public int getAmount() { return amount; }
+
+        @Override
+        public List<Position> getPositions() { return positions; }
+
+        @Override
+        public String toString() { return "WaveApplied[" + kind + " " + amount + " on " + positions.size() + " characters]"; }
+    }
+
+    /**
+     * A temporary decorator started on a character.
+     */
+    public static final class DecoratorApplied extends GameEvent {
+        private final AbstractCharacter character;
+        private final long entityId;
+        private final String decoratorName;
+        private final Position at;
+
+        public DecoratorApplied(AbstractCharacter character, String decoratorName, Position at) {
+            this.character = character;
+            this.entityId = character.getId();
+            this.decoratorName = decoratorName;
+            this.at = at;
+        }
+
+        public AbstractCharacter getCharacter() { return character; }
+        public long getEntityId() { return entityId; }
+        public String getDecoratorName() { return decoratorName; }
+        public Position getAt() { return at; }
+
+        @Override
+        public List<Position> getPositions() { return at == null ? List.of() : List.of(at); }
+
+        @Override
+        public String toString() { return "DecoratorApplied[" + decoratorName + " on " + character.getDisplaySymbol() + "]"; }
+    }
+
+    /**
+     * A temporary decorator of a character ran out.
+     */
+    public static final class DecoratorExpired extends GameEvent {
+        private final AbstractCharacter character;
+        private final long entityId;
+        private final String decoratorName;
+        private final Position at;
+
+        public DecoratorExpired(AbstractCharacter character, String decoratorName, Position at) {
+            this.character = character;
+            this.entityId = character.getId();
+            this.decoratorName = decoratorName;
+            this.at = at;
+        }
+
+        public AbstractCharacter getCharacter() { return character; }
+        public long getEntityId() { return entityId; }
+        public String getDecoratorName() { return decoratorName; }
+        public Position getAt() { return at; }
+
+        @Override
+        public List<Position> getPositions() { return at == null ? List.of() : List.of(at); }
+
+        @Override
+        public String toString() { return "DecoratorExpired[" + decoratorName + " on " + character.getDisplaySymbol() + "]"; }
+    }
+}
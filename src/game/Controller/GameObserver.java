@@ -1,6 +1,16 @@
 package game.Controller;
 
+import java.util.List;
+
 public interface GameObserver {
 
     void onModelChanged();
+
+    /**
+     * Receives the changes since the last notification, oldest first. Called right before
+     * {@link #onModelChanged()} in the same notification; an observer that only reads the
+     * events can leave {@code onModelChanged} empty.
+     */
+    default void onEvents(List<GameEvent> events) {
+    }
 }
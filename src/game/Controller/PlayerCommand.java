@@ -0,0 +1,130 @@
+package game.Controller;
+
+import game.Model.characters.Enemy;
+import game.Model.characters.PlayerCharacter;
+import game.Model.combat.BattleResult;
+import game.Model.engine.GameWorld;
+import game.Model.items.GameItem;
+import game.Model.map.Position;
+
+/**
+ * One player action, queued with {@link GameWorld#submit(PlayerCommand)} and applied in order
+ * on the simulation thread of the world.
+ *
+ * <p>
+ * A command is decided from what the player saw when clicking, but the world may have moved on
+ * by the time it is applied; every command checks that it still makes sense and otherwise does
+ * nothing and reports that in its result. The commands aimed at an entity remember its id, a
+ * dead enemy or spent treasure that was recycled in the meantime is a different entity.
+ * </p>
+ *
+ * @param <T> what the caller gets back when the command was applied
+ */
+public abstract class PlayerCommand<T> {
+
+    private PlayerCommand() {
+    }
+
+    /**
+     * applies the command, called on the simulation thread with the world lock held
+     */
+    public abstract T apply(GameWorld world);
+
+    /**
+     * Moves the player one cell, the result tells whether the player moved.
+     */
+    public static final class Move extends PlayerCommand<Boolean> {
+        private final Position to;
+
+        public Move(Position to) {
+            this.to = to;
+        }
+
+        public Position getTo() { return to; }
+
+        @Override
+        public Boolean apply(GameWorld world) {
+            return world.movePlayer(to);
+        }
+
+        @Override
+        public String toString() { return "Move[" + to + "]"; }
+    }
+
+    /**
+     * Attacks an enemy, the result is the battle or null if the enemy is gone.
+     */
+    public static final class Attack extends PlayerCommand<BattleResult> {
+        private final Enemy enemy;
+        private final long enemyId;
+
+        public Attack(Enemy enemy) {
+            this.enemy = enemy;
+            this.enemyId = enemy.getId();
+        }
+
+        public Enemy getEnemy() { return enemy; }
+
+        @Override
+        public BattleResult apply(GameWorld world) {
+            if (enemy.getId() != enemyId || enemy.isDead() || !world.getEnemies().contains(enemy)) {
+                return null;
+            }
+            return world.attack(enemy);
+        }
+
+        @Override
+        public String toString() { return "Attack[" + enemy.getDisplaySymbol() + "]"; }
+    }
+
+    /**
+     * Picks up an item next to the player, the result tells whether it was picked up.
+     */
+    public static final class PickUp extends PlayerCommand<Boolean> {
+        private final GameItem item;
+        private final long itemId;
+
+        public PickUp(GameItem item) {
+            this.item = item;
+            this.itemId = item.getId();
+        }
+
+        public GameItem getItem() { return item; }
+
+        @Override
+        public Boolean apply(GameWorld world) {
+            PlayerCharacter player = world.getPlayers().get(0);
+            if (item.getId() != itemId
+                    || !world.getItems().contains(item)
+                    || item.getPosition() == null
+                    || player.getPosition().distanceTo(item.getPosition()) != 1) {
+                return false;
+            }
+            return world.pickUpItem(item);
+        }
+
+        @Override
+        public String toString() { return "PickUp[" + item.getDisplaySymbol() + "]"; }
+    }
+
+    /**
+     * Uses an item of the inventory, the result tells whether it was used.
+     */
+    public static final class UseItem extends PlayerCommand<Boolean> {
+        private final GameItem item;
+
+        public UseItem(GameItem item) {
+            this.item = item;
+        }
+
+        public GameItem getItem() { return item; }
+
+        @Override
+        public Boolean apply(GameWorld world) {
+            return world.useItem(item);
+        }
+
+        @Override
+        public String toString() { return "UseItem[" + item.getDisplaySymbol() + "]"; }
+    }
+}
@@ -1,11 +1,13 @@
 package game;
 
-import game.Model.engine.GameWorld;
+import game.View.headless.HeadlessGame;
 
-//TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
-// click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
+/**
+ * Command-line entry point: runs the game headless (no Swing, no audio).
+ * The graphical game starts from {@link game.View.gui.MainWindow}.
+ */
 public class Main {
-    public static void main(String[] args) {
-
-        }
+    public static void main(String[] args) throws InterruptedException {
+        HeadlessGame.main(args);
     }
+}
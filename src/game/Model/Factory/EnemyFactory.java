@@ -1,12 +1,14 @@
 package game.Model.Factory;
 
 import game.Model.characters.*;
+import game.Model.core.RandomSource;
 import game.Model.engine.GameWorld;
 import game.Model.map.Position;
 import game.Util.GameLogger;
 
 import java.util.*;
 import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 /**
@@ -19,12 +21,12 @@ public class EnemyFactory {
     private static final Map<String, Supplier<Enemy>> enemySuppliers = new HashMap<>();
 
     // Static initializer to populate the suppliers map
+    // The world is looked up on every call so enemies belong to the current world,
+    // also after GameWorld.resetInstance(); dead enemies of a type are reused when there are any
     static {
-        GameWorld world = GameWorld.getInstance();
-
-        enemySuppliers.put("Goblin", () -> new Goblin(world));
-        enemySuppliers.put("Orc", () -> new Orc(world));
-        enemySuppliers.put("Dragon", () -> new Dragon(world));
+        enemySuppliers.put("Goblin", () -> EntityPools.obtainEnemy("Goblin", Goblin::new));
+        enemySuppliers.put("Orc", () -> EntityPools.obtainEnemy("Orc", Orc::new));
+        enemySuppliers.put("Dragon", () -> EntityPools.obtainEnemy("Dragon", Dragon::new));
     }
 
     /**
@@ -47,13 +49,13 @@ public class EnemyFactory {
 
         if (!missingTypes.isEmpty()) {
             // Choose randomly from missing types
-            Random rand = new Random();
+            RandomGenerator rand = RandomSource.current();
             selectedType = missingTypes.get(rand.nextInt(missingTypes.size()));
             GameLogger.getInstance().log("Creating missing enemy type: " + selectedType);
         } else {
             // All types exist, choose randomly
             List<String> allTypes = new ArrayList<>(enemySuppliers.keySet());
-            Random rand = new Random();
+            RandomGenerator rand = RandomSource.current();
             selectedType = allTypes.get(rand.nextInt(allTypes.size()));
             GameLogger.getInstance().log("All enemy types exist, creating random: " + selectedType);
         }
@@ -124,27 +126,17 @@ public class EnemyFactory {
 
     /**
      * Finds a random free position on the map.
+     * Only fails when the board is completely full.
      *
      * @return A free Position, or null if no position is available
      */
     private static Position findRandomFreePosition() {
         GameWorld world = GameWorld.getInstance();
-        game.Model.map.GameMap map = world.getMap();
-        Random rand = new Random();
-
-        int maxAttempts = 100;
-        for (int i = 0; i < maxAttempts; i++) {
-            int row = rand.nextInt(map.getNumRows());
-            int col = rand.nextInt(map.getNumCols());
-            Position pos = new Position(row, col);
-
-            if (map.isPositionFree(pos)) {
-                return pos;
-            }
+        Position pos = world.getMap().randomFreePosition(RandomSource.current());
+        if (pos == null) {
+            GameLogger.getInstance().log("Could not find free position for enemy, the board is full");
         }
-
-        GameLogger.getInstance().log("Could not find free position for enemy after " + maxAttempts + " attempts");
-        return null;
+        return pos;
     }
     /**
      * Just builds you the right subclass of Enemy, but does NOT add it to the world.
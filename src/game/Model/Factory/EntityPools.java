@@ -0,0 +1,117 @@
+package game.Model.Factory;
+
+import game.Model.characters.Enemy;
+import game.Model.characters.StatStore;
+import game.Model.core.Pool;
+import game.Model.engine.GameWorld;
+import game.Model.items.Treasure;
+import game.Model.map.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Recycles the entities that come and go the most: enemies and the treasure they drop.
+ *
+ * <p>
+ * Every death in combat used to make a new {@link Treasure}, and every respawn a new enemy with
+ * its own stat slot. Here a dead enemy is given back once its world has let go of it (it is off
+ * the map, out of the enemy list and no longer driven), and a treasure once it was picked up.
+ * The next request for the same kind takes it back and resets it: a new id, so stale references
+ * like a queued attack do not match it any more, and freshly rolled stats, exactly like a new
+ * object. Each enemy type has its own pool, the treasures share one.
+ * </p>
+ *
+ * <p>
+ * Positions are not pooled: {@link Position} has no setters, and a pooled position that was
+ * changed and handed out again would move whoever still holds it.
+ * </p>
+ */
+public final class EntityPools {
+
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private static final Map<String, Pool<Enemy>> enemyPools = new ConcurrentHashMap<>();
+    private static final Pool<Treasure> treasures = new Pool<>("Treasure", DEFAULT_CAPACITY);
+    private static volatile int capacity = DEFAULT_CAPACITY;
+
+    private EntityPools() {
+    }
+
+    /**
+     * returns a recycled enemy of this type reset for the current world, or a new one
+     */
+    public static Enemy obtainEnemy(String type, Function<GameWorld, Enemy> create) {
+        GameWorld world = GameWorld.getInstance();
+        Enemy enemy = enemyPool(type).take();
+        if (enemy == null) {
+            return create.apply(world);
+        }
+        enemy.reset(world);
+        return enemy;
+    }
+
+    /**
+     * Gives a dead enemy back. Must only be called once the world does not use it any more and
+     * the observers got every event that names it.
+     */
+    public static void recycle(Enemy enemy) {
+        Pool<Enemy> pool = enemyPools.get(enemy.enemyDiscription());
+        if (pool != null) {
+            enemy.setWorldId(StatStore.NO_WORLD);
+            pool.give(enemy);
+        }
+    }
+
+    /**
+     * returns a recycled hidden treasure at {@code position}, or a new one
+     */
+    public static Treasure obtainTreasure(Position position, int value) {
+        Treasure treasure = treasures.take();
+        if (treasure == null) {
+            return new Treasure(position, value);
+        }
+        treasure.reset(position, value);
+        return treasure;
+    }
+
+    /**
+     * Gives a treasure back. Must only be called once it was picked up and left the world, and
+     * the observers got every event that names it.
+     */
+    public static void recycle(Treasure treasure) {
+        treasures.give(treasure);
+    }
+
+    /**
+     * sets how many idle entities every pool keeps, 0 turns pooling off
+     */
+    public static void setCapacity(int capacity) {
+        EntityPools.capacity = capacity;
+        treasures.setCapacity(capacity);
+        enemyPools.values().forEach(p -> p.setCapacity(capacity));
+    }
+
+    /**
+     * returns every pool, the enemy pools first
+     */
+    public static List<Pool<?>> getPools() {
+        List<Pool<?>> pools = new ArrayList<>(enemyPools.values());
+        pools.add(treasures);
+        return pools;
+    }
+
+    /**
+     * sets the counters of every pool back to 0
+     */
+    public static void resetCounters() {
+        getPools().forEach(Pool::resetCounters);
+    }
+
+    private static Pool<Enemy> enemyPool(String type) {
+        return enemyPools.computeIfAbsent(type, t -> new Pool<>(t, capacity));
+    }
+}
@@ -1,9 +1,9 @@
 package game.Model.builder;
 
 import game.Model.characters.*;
+import game.Model.core.RandomSource;
 import game.Model.engine.GameWorld;
 import game.Util.GameLogger;
-import java.util.Random;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,7 +13,6 @@ import java.util.List;
  */
 public class EnemyBuilder extends CharacterBuilder<Enemy> {
 
-    private final Random random = new Random();
     private Class<? extends Enemy> enemyClass;
     private final GameWorld world = GameWorld.getInstance();
 
@@ -81,8 +80,8 @@ public class EnemyBuilder extends CharacterBuilder<Enemy> {
         int healthMod = 0, powerMod = 0, evasionMod = 0;
 
         // First, assign two random modifications
-        healthMod = possibleMods.get(random.nextInt(possibleMods.size()));
-        powerMod = possibleMods.get(random.nextInt(possibleMods.size()));
+        healthMod = possibleMods.get(RandomSource.current().nextInt(possibleMods.size()));
+        powerMod = possibleMods.get(RandomSource.current().nextInt(possibleMods.size()));
 
         // Calculate the third to balance
         evasionMod = -(healthMod + powerMod);
@@ -115,10 +114,10 @@ public class EnemyBuilder extends CharacterBuilder<Enemy> {
         // Try up to 10 times to find a valid distribution
         for (int attempt = 0; attempt < 10; attempt++) {
             int totalPoints = 0;
-            int healthMod = random.nextInt(6) - 2; // -2 to +3
+            int healthMod = RandomSource.current().nextInt(6) - 2; // -2 to +3
             totalPoints += healthMod;
 
-            int powerMod = random.nextInt(6) - 2; // -2 to +3
+            int powerMod = RandomSource.current().nextInt(6) - 2; // -2 to +3
             totalPoints += powerMod;
 
             int evasionMod = -totalPoints; // Balance the points
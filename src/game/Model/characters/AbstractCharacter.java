@@ -1,9 +1,11 @@
 package game.Model.characters;
-import java.util.Objects;
-import java.util.Random;
 import game.Model.combat.Combatant;
+import game.Model.core.EntityIds;
 import game.Model.core.GameEntity;
+import game.Model.core.RandomSource;
+import game.Model.decorator.ModifierPipeline;
 import game.Model.map.Position;
+import java.util.random.RandomGenerator;
 
 
 /**
@@ -21,26 +23,74 @@ import game.Model.map.Position;
  * <p>
  * Health is clamped between 0 and 100. Attack power is initialized randomly between 4 and 14.
  * The base evasion chance is 25%.
+ *
+ * <p>
+ * Health, power, evasion and the cell are not fields of the object: they live in the
+ * {@link StatStore} at the slot of the character, and the accessors read and write them there.
  */
 public abstract class AbstractCharacter implements Combatant, GameEntity {
 
+    private static final StatStore stats = StatStore.getInstance();
+    // the slot of a decorator, which keeps no stats
+    private static final int NO_SLOT = -1;
+
+    // only changes when a pooled character is renewed
+    private long id;
+
+    // where the stats of this character are kept in the store
+    private final int slot;
+    // the cell as an object, kept in step with the row and column in the store
     private Position position;
-    private int health;
-    private int power;
-    private double evasionChance;
     private boolean visible;
+    // what the active decorators do to this character, compiled by the DecoratorManager
+    private volatile ModifierPipeline modifiers;
 
     /**
      * constructs a new abstract character with base health and a random power level
      */
     public AbstractCharacter() {
-        health = 100;
-        Random rand = new Random();
-        this.power = rand.nextInt(11) + 4;// 0–10 + 4 → 4–14
-        evasionChance = 0.25;
+        id = EntityIds.next();
+        slot = stats.allocate(this);
+        stats.health(slot, 100);
+        RandomGenerator rand = RandomSource.current();
+        stats.power(slot, rand.nextInt(11) + 4);// 0–10 + 4 → 4–14
+        stats.evasion(slot, 0.25);
         visible = false;
     }
 
+    /**
+     * Constructs a character that keeps no stats of its own and takes no slot in the store, for a
+     * decorator that hands every stat to {@code wrapped}. Such a subclass must override every
+     * accessor of a stat.
+     */
+    protected AbstractCharacter(AbstractCharacter wrapped) {
+        id = wrapped.getId();
+        slot = NO_SLOT;
+    }
+
+    /**
+     * Gives a recycled character a new id and the stats of a new character, as if it had just been
+     * made. Only for a character that has left its world, see {@link game.Model.Factory.EntityPools}.
+     */
+    protected void renew() {
+        id = EntityIds.next();
+        stats.health(slot, 100);
+        stats.power(slot, RandomSource.current().nextInt(11) + 4);
+        stats.evasion(slot, 0.25);
+        stats.position(slot, 0, 0);
+        position = null;
+        visible = false;
+        setModifiers(null);
+    }
+
+    /**
+     * returns the id of the character
+     */
+    @Override
+    public long getId() {
+        return id;
+    }
+
     /**
      * returns the current position of the character
      */
@@ -61,7 +111,7 @@ public abstract class AbstractCharacter implements Combatant, GameEntity {
      */
     @Override
     public int getHealth() {
-        return health;
+        return stats.health(slot);
     }
 
     /**
@@ -69,7 +119,7 @@ public abstract class AbstractCharacter implements Combatant, GameEntity {
      */
     @Override
     public void setHealth(int health) {
-        this.health=health;
+        stats.health(slot, health);
     }
 
     /**
@@ -77,16 +127,25 @@ public abstract class AbstractCharacter implements Combatant, GameEntity {
      */
     public void setPosition(Position p) {
         if (p != null) {
-            position = new Position(p);
+            position = p;
+            stats.position(slot, p.getRow(), p.getCol());
         }
     }
 
     /**
-     * returns the chance of the abstract character to avoid damage
+     * returns the chance of the abstract character to avoid damage, with the effect of its decorators
      */
     @Override
     public double getEvasionChance() {
-        return evasionChance;
+        ModifierPipeline m = modifiers;
+        return m == null ? stats.evasion(slot) : m.evasion(stats.evasion(slot));
+    }
+
+    /**
+     * returns the chance to avoid damage without the decorators
+     */
+    public double getBaseEvasionChance() {
+        return stats.evasion(slot);
     }
 
     /**
@@ -94,17 +153,31 @@ public abstract class AbstractCharacter implements Combatant, GameEntity {
      */
     @Override
     public boolean tryEvade() {
-        Random rand = new Random();
-        return rand.nextDouble() < evasionChance;
+        RandomGenerator rand = RandomSource.current();
+        return rand.nextDouble() < getEvasionChance();
     }
 
     /**
-     * the action of taking damage, stating the source of the damage and amount
+     * the action of taking damage, stating the source of the damage and amount;
+     * the decorators may block or scale the hit before the character tries to evade it
      */
     @Override
     public void receiveDamage(int amount, Combatant source) {
-        if (!tryEvade()) {
-            health -= amount;
+        ModifierPipeline m = modifiers;
+        int dmg = m == null ? amount : m.hitDamage(amount);
+        if (dmg != ModifierPipeline.BLOCKED && !tryEvade()) {
+            stats.health(slot, stats.health(slot) - dmg);
+        }
+    }
+
+    /**
+     * tells the decorators that the character struck, see {@link ModifierPipeline#struck()}
+     */
+    @Override
+    public void struck() {
+        ModifierPipeline m = modifiers;
+        if (m != null) {
+            m.struck();
         }
     }
 
@@ -113,21 +186,29 @@ public abstract class AbstractCharacter implements Combatant, GameEntity {
      */
     @Override
     public boolean isDead() {
-        return health <= 0;
+        return stats.health(slot) <= 0;
     }
 
     /**
-     *returns the current Power of the character
+     *returns the current Power of the character, with the effect of its decorators
      */
     public int getPower() {
-        return power;
+        ModifierPipeline m = modifiers;
+        return m == null ? stats.power(slot) : m.power(this, stats.power(slot));
     }
 
     /**
-     * sets the power level of the character
+     * returns the power without the decorators, the one {@link #setPower(int)} sets
+     */
+    public int getBasePower() {
+        return stats.power(slot);
+    }
+
+    /**
+     * sets the power level of the character, without the decorators
      */
     public boolean setPower(int p){
-        power=p;
+        stats.power(slot, p);
         return true;
     }
 
@@ -137,7 +218,7 @@ public abstract class AbstractCharacter implements Combatant, GameEntity {
     @Override
     public void heal(int amount){
         if(amount>0){
-            this.health=Math.min(100,this.health+amount);
+            stats.health(slot, Math.min(100, stats.health(slot) + amount));
         }
     }
 
@@ -146,32 +227,30 @@ public abstract class AbstractCharacter implements Combatant, GameEntity {
      */
     @Override
     public String toString(){
-        return "position: " + position + "power level: " + power + "health: " + health;
+        return "position: " + position + "power level: " + stats.power(slot) + "health: " + stats.health(slot);
     }
 
     /**
-     * checks if the two abstract characters are equal
+     * two characters are equal when they are the same entity, that is when they have the same id;
+     * a decorator has the id of the character it wraps
      */
     @Override
-    public boolean equals(Object obj){
+    public final boolean equals(Object obj){
         if(obj == this) {
             return true;
         }
         if(!(obj instanceof AbstractCharacter)) {
             return false;
         }
-
-        AbstractCharacter otherCharacter = (AbstractCharacter) obj;
-        return this.health == otherCharacter.health && this.power == otherCharacter.power && this.position.equals(otherCharacter.position) && this.evasionChance == otherCharacter.evasionChance;
-
+        return getId() == ((AbstractCharacter) obj).getId();
     }
 
     /**
-     * unique hash code key for an abstract class type
+     * hash of the id, so it does not change while the character plays
      */
     @Override
-    public int hashCode() {
-        return Objects.hash(position, health, power);
+    public final int hashCode() {
+        return Long.hashCode(getId());
     }
 
     /**
@@ -183,8 +262,39 @@ public abstract class AbstractCharacter implements Combatant, GameEntity {
     }
 
 
+    /**
+     * takes damage no one can evade, like a magic wave; the decorators may still scale it
+     */
     public void takeDamage (int dmg) {
-        this.health -= dmg;
+        ModifierPipeline m = modifiers;
+        stats.health(slot, stats.health(slot) - (m == null ? dmg : m.directDamage(dmg)));
+    }
+
+    /**
+     * Marks the character as playing in the world with this id, world-wide effects of that
+     * world reach it. {@link StatStore#NO_WORLD} takes it out of every world.
+     */
+    public void setWorldId(int worldId) {
+        stats.owner(slot, worldId);
+    }
+
+    public int getWorldId() {
+        return stats.owner(slot);
+    }
+
+    /**
+     * returns the compiled decorators of this character, null if none modifies it
+     */
+    public ModifierPipeline getModifiers() {
+        return modifiers;
+    }
+
+    /**
+     * Sets the compiled decorators, only the {@link game.Model.decorator.DecoratorManager} does.
+     */
+    public void setModifiers(ModifierPipeline modifiers) {
+        this.modifiers = modifiers;
+        stats.modified(slot, modifiers != null);
     }
 
     /**
@@ -194,12 +304,32 @@ public abstract class AbstractCharacter implements Combatant, GameEntity {
      */
     public void setEvasionChance(double evasionChance) {
         if (evasionChance >= 0.0 && evasionChance <= 1.0) {
-            this.evasionChance = evasionChance;
+            stats.evasion(slot, evasionChance);
         }
     }
 
     public abstract void attack(Combatant target);
 
+    /**
+     * Returns a stand-in for simulations: the same type, stats, traits, decorator effects and cell,
+     * but in no world and on no map, so fighting it changes nothing in the game.
+     */
+    public abstract AbstractCharacter copyForSimulation();
+
+    /**
+     * copies health, power, evasion, the compiled decorators and the cell of this character to
+     * {@code copy} and returns it; see {@link ModifierPipeline#forSimulation()}
+     */
+    protected <T extends AbstractCharacter> T copyStatsTo(T copy) {
+        copy.setHealth(getHealth());
+        copy.setPower(getBasePower());
+        copy.setEvasionChance(getBaseEvasionChance());
+        ModifierPipeline m = modifiers;
+        copy.setModifiers(m == null ? null : m.forSimulation());
+        copy.setPosition(getPosition());
+        return copy;
+    }
+
 
 }
 
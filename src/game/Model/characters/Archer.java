@@ -4,9 +4,9 @@ import game.Model.combat.Combatant;
 import game.Model.combat.MagicElement;
 import game.Model.combat.PhysicalAttacker;
 import game.Model.combat.RangedFighter;
+import game.Model.core.RandomSource;
 import game.Model.map.Position;
-import java.util.Objects;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a ranged Archer player character.
@@ -28,7 +28,7 @@ public class Archer extends PlayerCharacter implements PhysicalAttacker , Ranged
      */
     public Archer(String name) {
         super(name);
-        Random rand = new Random();
+        RandomGenerator rand = RandomSource.current();
         accuracy = rand.nextDouble() * 0.8;
     }
     /**
@@ -83,7 +83,7 @@ public class Archer extends PlayerCharacter implements PhysicalAttacker , Ranged
      */
     @Override
     public boolean isCriticalHit() {
-        return new Random().nextDouble() < (accuracy / 2); // scale crit chance by accuracy
+        return RandomSource.current().nextDouble() < (accuracy / 2); // scale crit chance by accuracy
     }
 
 
@@ -103,31 +103,6 @@ public class Archer extends PlayerCharacter implements PhysicalAttacker , Ranged
         return super.toString() + "accuracy" + accuracy;
     }
 
-    /**
-     * checks if the two Archer characters are equal.
-     */
-    @Override
-    public boolean equals(Object obj) {
-        if (obj == this) {
-            return true;
-        }
-        if (!(obj instanceof Archer)) {
-            return false;
-        }
-        if (!super.equals(obj)) {
-            return false;
-        }
-        Archer otherArcher = (Archer) obj;
-        return this.accuracy == otherArcher.accuracy;
-    }
-
-    /**
-     * unique hash code key for an Archer class type.
-     */
-    @Override
-    public int hashCode() {
-        return Objects.hash(super.hashCode(), accuracy);
-    }
     /**
      * overrides from the gameEntity interface
      * @return the symbol of the archer in the game
@@ -136,4 +111,11 @@ public class Archer extends PlayerCharacter implements PhysicalAttacker , Ranged
     public String getDisplaySymbol() {
         return "A";
     }
-}
\ No newline at end of file
+
+    @Override
+    public Archer copyForSimulation() {
+        Archer copy = new Archer(getName());
+        copy.accuracy = accuracy;
+        return copyStatsTo(copy);
+    }
+}
@@ -1,10 +1,10 @@
 package game.Model.characters;
 import game.Model.characters.*;
 import game.Model.combat.*;
+import game.Model.core.RandomSource;
 import game.Model.engine.GameWorld;
 import game.Model.map.Position;
-import java.util.Objects;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a Dragon enemy in the game.
@@ -41,10 +41,16 @@ public class Dragon extends Enemy implements MeleeFighter, PhysicalAttacker, Ran
     public Dragon(GameWorld world) {
         super(world);
         MagicElement[] elements = MagicElement.values();
-        this.element = elements[new java.util.Random().nextInt(elements.length)]; // randomizes the element of the dragon, based on the values in the magic element enum
+        this.element = elements[RandomSource.current().nextInt(elements.length)]; // randomizes the element of the dragon, based on the values in the magic element enum
     }
 
 
+    @Override
+    protected void reroll() {
+        MagicElement[] elements = MagicElement.values();
+        this.element = elements[RandomSource.current().nextInt(elements.length)];
+    }
+
     /**
      * getter for the element field, returns the type of element of the dragon
      */
@@ -167,7 +173,7 @@ public class Dragon extends Enemy implements MeleeFighter, PhysicalAttacker, Ran
 
     @Override
     public boolean isCriticalHit() {
-        Random rand = new Random();
+        RandomGenerator rand = RandomSource.current();
         return rand.nextDouble() < 0.1;
     }
 
@@ -180,24 +186,6 @@ public class Dragon extends Enemy implements MeleeFighter, PhysicalAttacker, Ran
         return "D";
     }
 
-    /**
-     * Checks if this Dragon is equal to another object based on inherited properties and element type.
-     */
-    @Override
-    public boolean equals(Object obj){
-        if (obj == this){
-            return true;
-        }
-        if (!(obj instanceof Dragon)){
-            return false;
-        }
-        if (!super.equals(obj)){
-            return false;
-        }
-        Dragon otherDragon = (Dragon) obj;
-        return this.getElement() == otherDragon.getElement();
-    }
-
     /**
      * represents the class as a string
      */
@@ -206,14 +194,6 @@ public class Dragon extends Enemy implements MeleeFighter, PhysicalAttacker, Ran
         return super.toString() + "Dragon element: " + this.getElement();
     }
 
-    /**
-     * unique hash code key for a Dragon class type
-     */
-    @Override
-    public int hashCode() {
-        return Objects.hash(super.hashCode(), element);
-    }
-
     /**
      * describes the type of enemy
      */
@@ -224,7 +204,7 @@ public class Dragon extends Enemy implements MeleeFighter, PhysicalAttacker, Ran
 
 
     public void enemyAction() {
-        PlayerCharacter player = getWorld().getPlayers().get(0);
+        PlayerCharacter player = findTarget();
         Position playerPos = player.getPosition();
         Position myPos = getPosition();
         int distance = myPos.distanceTo(playerPos);
@@ -234,21 +214,20 @@ public class Dragon extends Enemy implements MeleeFighter, PhysicalAttacker, Ran
             //getWorld().attack(this);
         }
         else {
-            Random rand = new Random();
+            RandomGenerator rand = RandomSource.current();
             if (rand.nextInt(100)<20) {
-                int dRow = Integer.compare(playerPos.getRow(), myPos.getRow());
-                int dCol = Integer.compare(playerPos.getCol(), myPos.getCol());
-                String direction;
-                if (Math.abs(playerPos.getRow() - myPos.getRow()) > Math.abs(playerPos.getCol() - myPos.getCol())) {
-                    direction = dRow > 0 ? "down" : "up";
-                }
-                else {
-                    direction = dCol > 0 ? "right" : "left";
-                }
+                String direction = stepToward(player);
                 if (getWorld().getMap().moveEntity(this, direction)) {
                     getWorld().notifyObservers();
                 }
             }
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public Dragon copyForSimulation() {
+        Dragon copy = new Dragon(null);
+        copy.element = element;
+        return copyStatsTo(copy);
+    }
+}
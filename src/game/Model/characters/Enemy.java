@@ -1,8 +1,8 @@
 package game.Model.characters;
+import game.Model.core.RandomSource;
 import game.Model.engine.GameWorld;
+import game.Model.Factory.EntityPools;
 import game.Model.items.Treasure;
-import java.util.Objects;
-import java.util.Random;
 import game.Model.map.Position;
 /**
  * Represents a non-player enemy character in the game.
@@ -24,10 +24,32 @@ public abstract class Enemy extends AbstractCharacter implements Runnable {
         super();
         setHealth(50);
         this.world = world;
-        this.loot = new Random().nextInt(201) + 100; // 100–300
+        if (world != null) {
+            setWorldId(world.getId());
+        }
+        this.loot = RandomSource.current().nextInt(201) + 100; // 100–300
     }
 
 
+    /**
+     * Makes a recycled enemy new again for {@code world}: a new id, 50 health, new loot and no
+     * position yet. Subclasses roll their own traits again in {@link #reroll()}.
+     */
+    public void reset(GameWorld world) {
+        renew();
+        setHealth(50);
+        this.world = world;
+        setWorldId(world != null ? world.getId() : StatStore.NO_WORLD);
+        this.loot = RandomSource.current().nextInt(201) + 100; // 100–300
+        reroll();
+    }
+
+    /**
+     * rolls the random traits of the enemy type again, called by {@link #reset(GameWorld)}
+     */
+    protected void reroll() {
+    }
+
     @Override
     public void run() {
         try {
@@ -57,28 +79,10 @@ public abstract class Enemy extends AbstractCharacter implements Runnable {
      * Handles logic when the enemy is defeated.
      */
     public Treasure defeat() {
-        return new Treasure(getPosition(),loot);
+        return EntityPools.obtainTreasure(getPosition(), loot);
     }
 
 
-    /**
-     * Checks if this enemy is equal to another object based on loot and inherited fields.
-     */
-    @Override
-    public boolean equals(Object obj) {
-        if(obj == this){
-            return true;
-        }
-        if (!(obj instanceof Enemy)){
-            return false;
-        }
-        if (!super.equals(obj)) return false;
-
-        Enemy otherEnemy = (Enemy) obj;
-
-        return (this.loot == otherEnemy.loot);
-    }
-
     /**
      * represents the class as a string
      */
@@ -87,14 +91,6 @@ public abstract class Enemy extends AbstractCharacter implements Runnable {
         return super.toString() + "Enemy's loot:" + getLoot();
     }
 
-    /**
-     * unique hash code key for an enemy type
-     */
-    @Override
-    public int hashCode() {
-        return Objects.hash(super.hashCode(), getLoot());
-    }
-
     /**
      * describes the type of enemy
      */
@@ -109,4 +105,32 @@ public abstract class Enemy extends AbstractCharacter implements Runnable {
 
     public abstract void enemyAction();
 
+    /**
+     * returns the player this enemy goes after: the closest player on the map
+     */
+    protected PlayerCharacter findTarget() {
+        PlayerCharacter target = world.getMap().nearest(getPosition(), PlayerCharacter.class);
+        return target != null ? target : world.getPlayers().get(0);
+    }
+
+    /**
+     * returns the direction of the next step toward the target. The shared distance field of
+     * the map is used, so walls are walked around; if the target cannot be reached the enemy
+     * falls back to a straight step along the longer axis.
+     */
+    protected String stepToward(PlayerCharacter target) {
+        Position myPos = getPosition();
+        Position targetPos = target.getPosition();
+        String direction = world.getMap().getPathFinder().nextStep(myPos, target);
+        if (direction != null) {
+            return direction;
+        }
+        int dRow = Integer.compare(targetPos.getRow(), myPos.getRow());
+        int dCol = Integer.compare(targetPos.getCol(), myPos.getCol());
+        if (Math.abs(targetPos.getRow() - myPos.getRow()) > Math.abs(targetPos.getCol() - myPos.getCol())) {
+            return dRow > 0 ? "down" : "up";
+        }
+        return dCol > 0 ? "right" : "left";
+    }
+
 }
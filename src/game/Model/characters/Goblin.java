@@ -3,10 +3,10 @@ import game.Model.combat.Combatant;
 import game.Model.combat.MagicElement;
 import game.Model.combat.MeleeFighter;
 import game.Model.combat.PhysicalAttacker;
+import game.Model.core.RandomSource;
 import game.Model.map.Position;
-import java.util.Objects;
-import java.util.Random;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.random.RandomGenerator;
 
 import game.Model.engine.GameWorld;
 
@@ -30,10 +30,15 @@ public class Goblin extends Enemy implements MeleeFighter, PhysicalAttacker {
      */
     public Goblin(GameWorld world) {
         super(world);
-        this.agility = new Random().nextInt(81); // 0-80
+        this.agility = RandomSource.current().nextInt(81); // 0-80
     }
 
 
+    @Override
+    protected void reroll() {
+        this.agility = RandomSource.current().nextInt(81);
+    }
+
     /**
      * getter for the agility field of the goblin
      */
@@ -47,7 +52,7 @@ public class Goblin extends Enemy implements MeleeFighter, PhysicalAttacker {
     @Override
     public boolean tryEvade() {
         double goblinEvasion = Math.min(0.8, agility / 100.0);
-        return new Random().nextDouble() < goblinEvasion;
+        return RandomSource.current().nextDouble() < goblinEvasion;
 
     }
     /**
@@ -65,7 +70,7 @@ public class Goblin extends Enemy implements MeleeFighter, PhysicalAttacker {
      */
     @Override
     public boolean isCriticalHit() {
-        Random rand = new Random();
+        RandomGenerator rand = RandomSource.current();
         return rand.nextDouble() < 0.1;
     }
     /**
@@ -109,26 +114,6 @@ public class Goblin extends Enemy implements MeleeFighter, PhysicalAttacker {
         return "G";
     }
 
-    /**
-     * Checks if this goblin is equal to another object based on the inherited fields.
-     */
-    @Override
-    public boolean equals(Object obj) {
-        if (obj == this){
-            return true;
-        }
-        if (!(obj instanceof Goblin)){
-            return false;
-        }
-        if (!super.equals(obj)){
-            return false;
-        }
-
-        Goblin otherGoblin = (Goblin)obj;
-
-        return (this.agility == otherGoblin.agility);
-    }
-
     /**
      * represents the class as string
      */
@@ -137,14 +122,6 @@ public class Goblin extends Enemy implements MeleeFighter, PhysicalAttacker {
         return super.toString() + "agility: " + agility;
     }
 
-    /**
-     * unique hash code key for a goblin class type
-     */
-    @Override
-    public int hashCode() {
-        return Objects.hash(super.hashCode(), agility);
-    }
-
     /**
      * describes the type of enemy
      */
@@ -154,27 +131,22 @@ public class Goblin extends Enemy implements MeleeFighter, PhysicalAttacker {
 
     public void enemyAction() {
 
-        PlayerCharacter player = getWorld().getPlayers().get(0);
-        Position playerPos = player.getPosition();
-        Position myPos = getPosition();
+        PlayerCharacter player = findTarget();
 
-        Random rand = new Random();
+        RandomGenerator rand = RandomSource.current();
         if (rand.nextInt(100)<20) {
-            int dRow = Integer.compare(playerPos.getRow(), myPos.getRow());
-            int dCol = Integer.compare(playerPos.getCol(), myPos.getCol());
-            String direction;
-            if (Math.abs(playerPos.getRow() - myPos.getRow()) > Math.abs(playerPos.getCol() - myPos.getCol())) {
-                direction = dRow > 0 ? "down" : "up";
-            }
-            else {
-                direction = dCol > 0 ? "right" : "left";
-            }
+            String direction = stepToward(player);
             if (getWorld().getMap().moveEntity(this, direction)) {
                 getWorld().notifyObservers();
             }
         }
 
     }
-}
-
 
+    @Override
+    public Goblin copyForSimulation() {
+        Goblin copy = new Goblin(null);
+        copy.agility = agility;
+        return copyStatsTo(copy);
+    }
+}
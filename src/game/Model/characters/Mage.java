@@ -3,9 +3,9 @@ import game.Model.combat.Combatant;
 import game.Model.combat.MagicAttacker;
 import game.Model.combat.MagicElement;
 import game.Model.combat.RangedFighter;
+import game.Model.core.RandomSource;
 import game.Model.map.Position;
 
-import java.util.Objects;
 
 
 /**
@@ -40,7 +40,7 @@ public class Mage extends PlayerCharacter implements MagicAttacker, RangedFighte
     public Mage(String name) {
         super(name);
         MagicElement[] elements = MagicElement.values();
-        this.element = elements[new java.util.Random().nextInt(elements.length)]; // randomizes the element of the mage, based on the values in the magic element enum
+        this.element = elements[RandomSource.current().nextInt(elements.length)]; // randomizes the element of the mage, based on the values in the magic element enum
 
     }
 
@@ -132,24 +132,6 @@ public class Mage extends PlayerCharacter implements MagicAttacker, RangedFighte
         return "M";
     }
 
-    /**
-     * Checks if this mage is equal to another object based on inherited properties and element type.
-     */
-    @Override
-    public boolean equals(Object obj){
-        if (obj == this){
-            return true;
-        }
-        if (!(obj instanceof Mage)){
-            return false;
-        }
-        if (!super.equals(obj)){
-            return false;
-        }
-        Mage otherMage = (Mage) obj;
-        return this.getElement() == otherMage.getElement();
-    }
-
     /**
      * represents the class as a string
      */
@@ -158,13 +140,10 @@ public class Mage extends PlayerCharacter implements MagicAttacker, RangedFighte
         return super.toString() + "Mage element: " + this.getElement();
     }
 
-    /**
-     * unique hash code key for a mage class type
-     */
     @Override
-    public int hashCode() {
-        return Objects.hash(super.hashCode(), element);
+    public Mage copyForSimulation() {
+        Mage copy = new Mage(getName());
+        copy.element = element;
+        return copyStatsTo(copy);
     }
-
-
 }
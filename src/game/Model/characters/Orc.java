@@ -1,10 +1,10 @@
 package game.Model.characters;
 import game.Model.characters.*;
 import game.Model.combat.*;
+import game.Model.core.RandomSource;
 import game.Model.engine.GameWorld;
 import game.Model.map.Position;
-import java.util.Objects;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 /**
  * Represents an orc - enemy character in the game.
  *
@@ -21,7 +21,12 @@ public class Orc extends Enemy implements PhysicalAttacker , MeleeFighter {
      */
     public Orc(GameWorld world){
         super(world);
-        this.resistance=new Random().nextDouble() * 0.5;//0-0.5
+        this.resistance=RandomSource.current().nextDouble() * 0.5;//0-0.5
+    }
+
+    @Override
+    protected void reroll() {
+        this.resistance = RandomSource.current().nextDouble() * 0.5;
     }
 
 
@@ -79,7 +84,7 @@ public class Orc extends Enemy implements PhysicalAttacker , MeleeFighter {
      */
     @Override
     public boolean isCriticalHit() {
-        Random rand = new Random();
+        RandomGenerator rand = RandomSource.current();
         return rand.nextDouble() < 0.1;
     }
 
@@ -113,25 +118,6 @@ public class Orc extends Enemy implements PhysicalAttacker , MeleeFighter {
     }
 
 
-    /**
-     *checks if the two orcs characters are equal
-     */
-    @Override
-    public boolean equals(Object obj) {
-        if(obj == this){
-            return true;
-        }
-        if (!(obj instanceof Orc)){
-            return false;
-        }
-        if (!super.equals(obj)) return false;
-
-        Orc otherOrc = (Orc) obj;
-
-        return (this.resistance == otherOrc.resistance);
-    }
-
-
     /**
      * getter for the resistance field for the orc
      */
@@ -149,14 +135,6 @@ public class Orc extends Enemy implements PhysicalAttacker , MeleeFighter {
     }
 
 
-    /**
-     * unique hash code key for an orc type
-     */
-    @Override
-    public int hashCode() {
-        return Objects.hash(super.hashCode(), getResistance());
-    }
-
     /**
      * describes the type of enemy
      */
@@ -166,7 +144,7 @@ public class Orc extends Enemy implements PhysicalAttacker , MeleeFighter {
 
 
     public void enemyAction() {
-        PlayerCharacter player = getWorld().getPlayers().get(0);
+        PlayerCharacter player = findTarget();
         Position playerPos = player.getPosition();
         Position myPos = getPosition();
         int distance = myPos.distanceTo(playerPos);
@@ -176,17 +154,9 @@ public class Orc extends Enemy implements PhysicalAttacker , MeleeFighter {
             //getWorld().attack(this);
         }
         else {
-            Random rand = new Random();
+            RandomGenerator rand = RandomSource.current();
             if (rand.nextInt(100)<20) {
-                int dRow = Integer.compare(playerPos.getRow(), myPos.getRow());
-                int dCol = Integer.compare(playerPos.getCol(), myPos.getCol());
-                String direction;
-                if (Math.abs(playerPos.getRow() - myPos.getRow()) > Math.abs(playerPos.getCol() - myPos.getCol())) {
-                    direction = dRow > 0 ? "down" : "up";
-                }
-                else {
-                    direction = dCol > 0 ? "right" : "left";
-                }
+                String direction = stepToward(player);
                 if (getWorld().getMap().moveEntity(this, direction)) {
                     getWorld().notifyObservers();
                 }
@@ -194,4 +164,11 @@ public class Orc extends Enemy implements PhysicalAttacker , MeleeFighter {
         }
 
     }
+
+    @Override
+    public Orc copyForSimulation() {
+        Orc copy = new Orc(null);
+        copy.resistance = resistance;
+        return copyStatsTo(copy);
+    }
 }
@@ -3,7 +3,6 @@ import game.Model.core.Inventory;
 import game.Model.items.GameItem;
 import game.Model.items.Interactable;
 
-import java.util.Objects;
 
 /**
  * Represents a playable character controlled by the user.
@@ -114,28 +113,4 @@ public abstract class PlayerCharacter extends AbstractCharacter {
         return super.toString() + "Name" +name + "Inventory" + inventory +"TreasurePoints" +treasurePoints;
     }
 
-    /**
-     *checks if the two player characters are equal.
-     */
-    @Override
-    public boolean equals(Object obj){
-        if(obj == this){
-            return true;
-        }
-        if (!(obj instanceof PlayerCharacter)){
-            return false;
-        }
-        if (!super.equals(obj)) return false;
-
-        PlayerCharacter otherCharacter = (PlayerCharacter)obj;
-        return this.name == otherCharacter.name && this.inventory.equals(otherCharacter.inventory) && this.treasurePoints == otherCharacter.treasurePoints;
-    }
-
-    /**
-     * unique hash code key for a player class type.
-     */
-    @Override
-    public int hashCode(){
-        return Objects.hash(name,inventory,treasurePoints);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,276 @@
+package game.Model.characters;
+
+import java.lang.ref.Cleaner;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The combat stats of every character, stored column by column.
+ *
+ * <p>
+ * Every {@link AbstractCharacter} gets a slot when it is made. Health, power, evasion, row,
+ * column and the id of the world it plays in are kept in parallel primitive arrays at that slot,
+ * and the accessors of the character read and write them. The store also keeps the slots of
+ * every world in a list, so effects that hit every character of a world, like the magic waves,
+ * are a plain loop over the slots of that world instead of a virtual call on every object, and
+ * never touch the characters of other worlds.
+ * </p>
+ *
+ * <p>
+ * The arrays are split in pages of {@value #PAGE_SIZE} slots. Pages are added when the store
+ * grows but never moved, so a write can never get lost in a copy and reads need no lock. A slot
+ * is given back once its character is garbage collected, through a {@link Cleaner}, and reused
+ * by the next character. Like the fields they replace, single stats are not synchronized.
+ * </p>
+ */
+public final class StatStore {
+
+    static final int PAGE_BITS = 10;
+    static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int MASK = PAGE_SIZE - 1;
+
+    /**
+     * the owner of a slot that does not play in any world
+     */
+    public static final int NO_WORLD = -1;
+
+    private static final StatStore INSTANCE = new StatStore();
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private static final class Page {
+        final int[] health = new int[PAGE_SIZE];
+        final int[] power = new int[PAGE_SIZE];
+        final double[] evasion = new double[PAGE_SIZE];
+        final int[] row = new int[PAGE_SIZE];
+        final int[] col = new int[PAGE_SIZE];
+        final int[] owner = new int[PAGE_SIZE];
+        // 1 if decorators modify the character, the bulk damage leaves it to the world
+        final int[] modified = new int[PAGE_SIZE];
+        // where the slot is in the slot list of its owner
+        final int[] index = new int[PAGE_SIZE];
+
+        Page() {
+            Arrays.fill(owner, NO_WORLD);
+        }
+    }
+
+    /**
+     * The slots of one world, in no order. Guarded by its own monitor; the owner and index
+     * columns of a slot change only while the list of its world is locked.
+     */
+    private static final class WorldSlots {
+        int[] slots = new int[64];
+        int size;
+    }
+
+    // gives the slot back when the character is collected, must not reference the character
+    private static final class Release implements Runnable {
+        private final StatStore store;
+        private final int slot;
+
+        Release(StatStore store, int slot) {
+            this.store = store;
+            this.slot = slot;
+        }
+
+        @Override
+        public void run() {
+            store.release(slot);
+        }
+    }
+
+    private volatile Page[] pages = new Page[0];
+    private int used;
+    private int[] free = new int[64];
+    private int freeCount;
+    private final ConcurrentMap<Integer, WorldSlots> worlds = new ConcurrentHashMap<>();
+
+    private StatStore() {
+    }
+
+    public static StatStore getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * takes a slot for the character, it is released when the character is collected
+     */
+    int allocate(AbstractCharacter character) {
+        int slot;
+        synchronized (this) {
+            if (freeCount > 0) {
+                slot = free[--freeCount];
+            } else {
+                slot = used++;
+                if ((slot >>> PAGE_BITS) >= pages.length) {
+                    Page[] grown = Arrays.copyOf(pages, pages.length + 1);
+                    grown[pages.length] = new Page();
+                    pages = grown;
+                }
+            }
+        }
+        CLEANER.register(character, new Release(this, slot));
+        return slot;
+    }
+
+    private synchronized void release(int slot) {
+        owner(slot, NO_WORLD);
+        Page p = pages[slot >>> PAGE_BITS];
+        int i = slot & MASK;
+        p.health[i] = 0;
+        p.power[i] = 0;
+        p.evasion[i] = 0;
+        p.row[i] = 0;
+        p.col[i] = 0;
+        p.modified[i] = 0;
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, freeCount * 2);
+        }
+        free[freeCount++] = slot;
+    }
+
+    private Page page(int slot) {
+        return pages[slot >>> PAGE_BITS];
+    }
+
+    int health(int slot) { return page(slot).health[slot & MASK]; }
+    void health(int slot, int value) { page(slot).health[slot & MASK] = value; }
+
+    int power(int slot) { return page(slot).power[slot & MASK]; }
+    void power(int slot, int value) { page(slot).power[slot & MASK] = value; }
+
+    double evasion(int slot) { return page(slot).evasion[slot & MASK]; }
+    void evasion(int slot, double value) { page(slot).evasion[slot & MASK] = value; }
+
+    int row(int slot) { return page(slot).row[slot & MASK]; }
+    int col(int slot) { return page(slot).col[slot & MASK]; }
+
+    void position(int slot, int row, int col) {
+        Page p = page(slot);
+        p.row[slot & MASK] = row;
+        p.col[slot & MASK] = col;
+    }
+
+    int owner(int slot) { return page(slot).owner[slot & MASK]; }
+
+    /**
+     * moves the slot from the list of its world to the one of {@code world}
+     */
+    void owner(int slot, int world) {
+        Page p = page(slot);
+        int i = slot & MASK;
+        int old = p.owner[i];
+        if (old == world) {
+            return;
+        }
+        if (old != NO_WORLD) {
+            WorldSlots from = worlds.get(old);
+            synchronized (from) {
+                int last = from.slots[--from.size];
+                from.slots[p.index[i]] = last;
+                page(last).index[last & MASK] = p.index[i];
+                p.owner[i] = NO_WORLD;
+            }
+        }
+        if (world != NO_WORLD) {
+            WorldSlots to = worlds.computeIfAbsent(world, w -> new WorldSlots());
+            synchronized (to) {
+                if (to.size == to.slots.length) {
+                    to.slots = Arrays.copyOf(to.slots, to.size * 2);
+                }
+                p.index[i] = to.size;
+                to.slots[to.size++] = slot;
+                p.owner[i] = world;
+            }
+        }
+    }
+
+    void modified(int slot, boolean modified) { page(slot).modified[slot & MASK] = modified ? 1 : 0; }
+
+    /**
+     * Adds {@code amount} to the power of every living character of the world.
+     *
+     * @return how many characters were changed
+     */
+    public int addPower(int world, int amount) {
+        WorldSlots ws = worlds.get(world);
+        if (ws == null) {
+            return 0;
+        }
+        int changed = 0;
+        synchronized (ws) {
+            Page[] pages = this.pages;
+            for (int k = 0; k < ws.size; k++) {
+                int slot = ws.slots[k];
+                Page p = pages[slot >>> PAGE_BITS];
+                int i = slot & MASK;
+                if (p.health[i] > 0) {
+                    p.power[i] += amount;
+                    changed++;
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Takes {@code amount} health from every living character of the world, without evasion,
+     * like {@link AbstractCharacter#takeDamage(int)}. Characters with compiled decorators are
+     * skipped, their decorators may change the damage, so the caller hits them one by one.
+     *
+     * @return how many characters were hit
+     */
+    public int damage(int world, int amount) {
+        WorldSlots ws = worlds.get(world);
+        if (ws == null) {
+            return 0;
+        }
+        int changed = 0;
+        synchronized (ws) {
+            Page[] pages = this.pages;
+            for (int k = 0; k < ws.size; k++) {
+                int slot = ws.slots[k];
+                Page p = pages[slot >>> PAGE_BITS];
+                int i = slot & MASK;
+                if (p.health[i] > 0 && p.modified[i] == 0) {
+                    p.health[i] -= amount;
+                    changed++;
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * returns how many slots play in the world
+     */
+    public int getWorldSlots(int world) {
+        WorldSlots ws = worlds.get(world);
+        if (ws == null) {
+            return 0;
+        }
+        synchronized (ws) {
+            return ws.size;
+        }
+    }
+
+    /**
+     * returns how many slots are taken by characters that were not collected yet
+     */
+    public synchronized int getLiveSlots() {
+        return used - freeCount;
+    }
+
+    /**
+     * returns how many slots the store has room for
+     */
+    public int getCapacity() {
+        return pages.length * PAGE_SIZE;
+    }
+
+    @Override
+    public String toString() {
+        return "StatStore[live=" + getLiveSlots() + ", capacity=" + getCapacity() + "]";
+    }
+}
@@ -3,9 +3,9 @@ import game.Model.combat.Combatant;
 import game.Model.combat.MagicElement;
 import game.Model.combat.MeleeFighter;
 import game.Model.combat.PhysicalAttacker;
+import game.Model.core.RandomSource;
 import game.Model.map.Position;
-import java.util.Objects;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 
 /**
@@ -37,7 +37,7 @@ public class Warrior extends PlayerCharacter implements MeleeFighter, PhysicalAt
      */
     public Warrior(String name) {
         super(name);
-        this.defence = new Random().nextInt(121); // 0-120
+        this.defence = RandomSource.current().nextInt(121); // 0-120
     }
 
 
@@ -111,7 +111,7 @@ public class Warrior extends PlayerCharacter implements MeleeFighter, PhysicalAt
      */
     @Override
     public boolean isCriticalHit() {
-        Random rand = new Random();
+        RandomGenerator rand = RandomSource.current();
         return rand.nextDouble() < 0.1;
     }
 
@@ -131,32 +131,6 @@ public class Warrior extends PlayerCharacter implements MeleeFighter, PhysicalAt
         return super.toString() + "defence" + defence;
     }
 
-    /**
-     * checks if the two warrior characters are equal
-     */
-    @Override
-    public boolean equals(Object obj){
-        if (obj == this){
-            return true;
-        }
-        if (!(obj instanceof Warrior)){
-            return false;
-        }
-        if (!super.equals(obj)){
-            return false;
-        }
-        Warrior otherWarrior = (Warrior) obj;
-        return this.defence == otherWarrior.defence;
-    }
-
-    /**
-     * unique hash code key for a warrior class type
-     */
-    @Override
-    public int hashCode() {
-        return Objects.hash(super.hashCode(), defence);
-    }
-
     /**
      * confirms that the warrior has no element
      */
@@ -165,4 +139,10 @@ public class Warrior extends PlayerCharacter implements MeleeFighter, PhysicalAt
         return null;
     }
 
-}
\ No newline at end of file
+    @Override
+    public Warrior copyForSimulation() {
+        Warrior copy = new Warrior(getName());
+        copy.defence = defence;
+        return copyStatsTo(copy);
+    }
+}
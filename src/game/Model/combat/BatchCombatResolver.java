@@ -0,0 +1,178 @@
+package game.Model.combat;
+
+import game.Model.core.GameEntity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Resolves many fights at once, like a horde meeting the player in the same tick.
+ *
+ * <p>
+ * The engagements are split into waves in which no combatant fights twice, so the fights of a
+ * wave touch different characters and run in parallel on a fork/join pool. A combatant that is
+ * in several engagements fights them in the order of the list, one wave after the other, so the
+ * outcome is the one of calling {@link CombatSystem#resolveCombat(Combatant, Combatant)} for
+ * every engagement in turn, and so are the {@link BattleResult}s. A combatant whose opponent
+ * already died in an earlier wave still gets its result, with 0 rounds.
+ * </p>
+ *
+ * <p>
+ * The resolver does not lock anything: the caller makes sure nobody else touches the
+ * combatants until {@link #resolve(List)} returns, usually by holding the world lock, see
+ * {@code GameWorld.resolveEngagements}.
+ * </p>
+ */
+public class BatchCombatResolver {
+
+    // a wave smaller than this is fought on the calling thread
+    private static final int PARALLEL_THRESHOLD = 4;
+
+    private final ForkJoinPool pool;
+    private final int roundLimit;
+
+    public BatchCombatResolver() {
+        this(ForkJoinPool.commonPool(), CombatEngine.DEFAULT_ROUND_LIMIT);
+    }
+
+    /**
+     * @param roundLimit how many rounds every fight lasts at most, see {@link CombatEngine#getRoundLimit()}
+     */
+    public BatchCombatResolver(ForkJoinPool pool, int roundLimit) {
+        if (pool == null) {
+            throw new IllegalArgumentException("pool is required");
+        }
+        if (roundLimit <= 0) {
+            throw new IllegalArgumentException("roundLimit must be positive: " + roundLimit);
+        }
+        this.pool = pool;
+        this.roundLimit = roundLimit;
+    }
+
+    /**
+     * Fights every engagement.
+     *
+     * @return the result of every engagement, in the order of {@code engagements}
+     */
+    public List<BattleResult> resolve(List<Engagement> engagements) {
+        BattleResult[] results = new BattleResult[engagements.size()];
+        for (int[] wave : waves(engagements)) {
+            if (wave.length < PARALLEL_THRESHOLD) {
+                for (int i : wave) {
+                    results[i] = fight(engagements.get(i), roundLimit);
+                }
+            } else {
+                pool.invoke(new Wave(engagements, wave, results, roundLimit));
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Splits the engagements into waves in which no combatant appears twice. An engagement goes
+     * into the wave after the last one its attacker or defender is in, which keeps the order of
+     * the fights of every combatant.
+     *
+     * @return the indexes into {@code engagements} of every wave, in the order they are fought
+     */
+    public static List<int[]> waves(List<Engagement> engagements) {
+        Map<Object, Integer> lastWave = new HashMap<>();
+        int[] waveOf = new int[engagements.size()];
+        int[] sizes = new int[engagements.size() + 1];
+        int count = 0;
+        for (int i = 0; i < engagements.size(); i++) {
+            Object a = key(engagements.get(i).getAttacker());
+            Object d = key(engagements.get(i).getDefender());
+            int wave = Math.max(lastWave.getOrDefault(a, -1), lastWave.getOrDefault(d, -1)) + 1;
+            lastWave.put(a, wave);
+            lastWave.put(d, wave);
+            waveOf[i] = wave;
+            sizes[wave]++;
+            count = Math.max(count, wave + 1);
+        }
+
+        List<int[]> waves = new ArrayList<>(count);
+        for (int w = 0; w < count; w++) {
+            waves.add(new int[sizes[w]]);
+        }
+        int[] filled = new int[count];
+        for (int i = 0; i < waveOf.length; i++) {
+            waves.get(waveOf[i])[filled[waveOf[i]]++] = i;
+        }
+        return waves;
+    }
+
+    // a decorator and what it wraps are the same combatant, they share the id
+    private static Object key(Combatant c) {
+        return c instanceof GameEntity e ? e.getId() : new IdentityKey(c);
+    }
+
+    private static BattleResult fight(Engagement engagement, int roundLimit) {
+        return new CombatEngine(engagement.getAttacker(), engagement.getDefender(), roundLimit).runToEnd();
+    }
+
+    /**
+     * Fights the engagements of one wave, halving it down to single fights.
+     */
+    @SuppressWarnings("serial") // a fork/join task, never serialized
+    private static final class Wave extends RecursiveAction {
+        private final List<Engagement> engagements;
+        private final int[] wave;
+        private final BattleResult[] results;
+        private final int roundLimit;
+        private final int from;
+        private final int to;
+
+        Wave(List<Engagement> engagements, int[] wave, BattleResult[] results, int roundLimit) {
+            this(engagements, wave, results, roundLimit, 0, wave.length);
+        }
+
+        private Wave(List<Engagement> engagements, int[] wave, BattleResult[] results, int roundLimit,
+                     int from, int to) {
+            this.engagements = engagements;
+            this.wave = wave;
+            this.results = results;
+            this.roundLimit = roundLimit;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                results[wave[from]] = fight(engagements.get(wave[from]), roundLimit);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            ForkJoinTask.invokeAll(new Wave(engagements, wave, results, roundLimit, from, mid),
+                    new Wave(engagements, wave, results, roundLimit, mid, to));
+        }
+    }
+
+    /**
+     * Compares a combatant that is not an entity by identity.
+     */
+    private static final class IdentityKey {
+        private final Combatant combatant;
+
+        IdentityKey(Combatant combatant) {
+            this.combatant = combatant;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityKey other && other.combatant == combatant;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(combatant);
+        }
+    }
+}
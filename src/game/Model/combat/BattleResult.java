@@ -9,6 +9,7 @@ import java.util.Objects;
  *   <li>Number of rounds fought</li>
  *   <li>Total damage dealt by the player</li>
  *   <li>Total damage dealt by the enemy</li>
+ *   <li>Whether the fight was called off at the round limit with both alive</li>
  * </ul>
  */
 
@@ -17,12 +18,21 @@ public class BattleResult {
     private final int rounds;
     private final int dmgByPlayer;
     private final int dmgByEnemy;
+    private final boolean calledOff;
 
     public BattleResult(String enemyName, int rounds, int dmgByPlayer, int dmgByEnemy) {
+        this(enemyName, rounds, dmgByPlayer, dmgByEnemy, false);
+    }
+
+    /**
+     * @param calledOff true if the fight reached its round limit with both sides alive
+     */
+    public BattleResult(String enemyName, int rounds, int dmgByPlayer, int dmgByEnemy, boolean calledOff) {
         this.enemyName = enemyName;
         this.rounds = rounds;
         this.dmgByPlayer = dmgByPlayer;
         this.dmgByEnemy = dmgByEnemy;
+        this.calledOff = calledOff;
     }
 
     public String getEnemyName() {
@@ -41,6 +51,13 @@ public class BattleResult {
         return dmgByEnemy;
     }
 
+    /**
+     * returns true if the fight was stopped at its round limit, both sides are still alive
+     */
+    public boolean isCalledOff() {
+        return calledOff;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -49,19 +66,20 @@ public class BattleResult {
         return rounds == other.rounds
                 && dmgByPlayer == other.dmgByPlayer
                 && dmgByEnemy == other.dmgByEnemy
+                && calledOff == other.calledOff
                 && Objects.equals(enemyName, other.enemyName);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(enemyName, rounds, dmgByPlayer, dmgByEnemy);
+        return Objects.hash(enemyName, rounds, dmgByPlayer, dmgByEnemy, calledOff);
     }
 
     @Override
     public String toString() {
         return String.format(
-                "Battle vs %s: rounds=%d, dmgByPlayer=%d, dmgByEnemy=%d",
-                enemyName, rounds, dmgByPlayer, dmgByEnemy
+                "Battle vs %s: rounds=%d, dmgByPlayer=%d, dmgByEnemy=%d%s",
+                enemyName, rounds, dmgByPlayer, dmgByEnemy, calledOff ? ", called off" : ""
         );
     }
 }
@@ -0,0 +1,197 @@
+package game.Model.combat;
+
+import java.util.function.Consumer;
+
+/**
+ * One fight between an attacker and a defender, advanced a round at a time.
+ *
+ * <p>
+ * A round is what one pass of the old combat loop did: the attacker strikes, and if the defender
+ * survives it strikes back. {@link #run(int, long)} plays rounds until the fight is over, the
+ * given number of rounds was played or the time budget is spent, and can be called again later
+ * to go on where it stopped, for example once per tick. The fight always ends: when neither side
+ * can reach the other it is over as {@link Status#OUT_OF_RANGE}, and after {@link #getRoundLimit()}
+ * rounds as {@link Status#ROUND_LIMIT}. The {@link BattleResult} is the same the old loop made,
+ * except that it tells when the round limit called the fight off.
+ * </p>
+ *
+ * <p>
+ * An engine is not thread safe; it is advanced by one thread at a time, usually the one holding
+ * the world lock.
+ * </p>
+ */
+public class CombatEngine {
+
+    public static final int DEFAULT_ROUND_LIMIT = 1_000;
+
+    /**
+     * Where the fight is.
+     */
+    public enum Status {
+        /** both are alive and can still reach each other */
+        IN_PROGRESS,
+        /** the defender died */
+        ATTACKER_WON,
+        /** the attacker died */
+        DEFENDER_WON,
+        /** a round passed in which neither could strike, nothing would change any more */
+        OUT_OF_RANGE,
+        /** the round limit was reached with both alive */
+        ROUND_LIMIT
+    }
+
+    private final Combatant attacker;
+    private final Combatant defender;
+    private final int roundLimit;
+    private Consumer<CombatRound> roundListener;
+
+    private Status status = Status.IN_PROGRESS;
+    private int rounds;
+    private int dmgByAttacker;
+    private int dmgByDefender;
+
+    public CombatEngine(Combatant attacker, Combatant defender) {
+        this(attacker, defender, DEFAULT_ROUND_LIMIT);
+    }
+
+    /**
+     * @param roundLimit how many rounds are played at most before the fight is called off
+     */
+    public CombatEngine(Combatant attacker, Combatant defender, int roundLimit) {
+        if (attacker == null || defender == null) {
+            throw new IllegalArgumentException("attacker and defender are required");
+        }
+        if (roundLimit <= 0) {
+            throw new IllegalArgumentException("roundLimit must be positive: " + roundLimit);
+        }
+        this.attacker = attacker;
+        this.defender = defender;
+        this.roundLimit = roundLimit;
+        settle();
+    }
+
+    /**
+     * sets who hears about every round, null for nobody
+     */
+    public void setRoundListener(Consumer<CombatRound> roundListener) {
+        this.roundListener = roundListener;
+    }
+
+    /**
+     * Plays one round.
+     *
+     * @return the round, or null if the fight was already over or nobody could strike
+     */
+    public CombatRound step() {
+        if (status != Status.IN_PROGRESS) {
+            return null;
+        }
+
+        // attacker strikes defender
+        int preHp = defender.getHealth();
+        boolean struck = strike(attacker, defender);
+        int byAttacker = Math.max(0, preHp - defender.getHealth());
+
+        // defender strikes back
+        int byDefender = 0;
+        if (!defender.isDead()) {
+            preHp = attacker.getHealth();
+            struck |= strike(defender, attacker);
+            byDefender = Math.max(0, preHp - attacker.getHealth());
+        }
+
+        if (!struck) {
+            status = Status.OUT_OF_RANGE;
+            return null;
+        }
+
+        rounds++;
+        dmgByAttacker += byAttacker;
+        dmgByDefender += byDefender;
+        settle();
+
+        CombatRound round = new CombatRound(rounds, byAttacker, byDefender, attacker.getHealth(), defender.getHealth());
+        if (roundListener != null) {
+            roundListener.accept(round);
+        }
+        return round;
+    }
+
+    /**
+     * Plays rounds until the fight is over, {@code maxRounds} rounds were played or about
+     * {@code budgetNanos} passed. At least one round is played if the fight is not over.
+     *
+     * @return the status afterwards, {@link Status#IN_PROGRESS} if the fight was suspended
+     */
+    public Status run(int maxRounds, long budgetNanos) {
+        long deadline = System.nanoTime() + budgetNanos;
+        for (int played = 0; played < maxRounds && status == Status.IN_PROGRESS; played++) {
+            if (played > 0 && System.nanoTime() - deadline > 0) {
+                break;
+            }
+            step();
+        }
+        return status;
+    }
+
+    /**
+     * plays the fight to its end
+     */
+    public BattleResult runToEnd() {
+        run(Integer.MAX_VALUE, Long.MAX_VALUE);
+        return getResult();
+    }
+
+    // a strike only happens in range, like the old loop
+    private static boolean strike(Combatant atk, Combatant def) {
+        if (atk instanceof MeleeFighter melee
+                && melee.isInMeleeRange(atk.getPosition(), def.getPosition())) {
+            melee.fightClose(def);
+            atk.struck();
+            return true;
+        } else if (atk instanceof RangedFighter ranged
+                && ranged.isInRange(atk.getPosition(), def.getPosition())) {
+            ranged.fightRanged(def);
+            atk.struck();
+            return true;
+        }
+        return false;
+    }
+
+    private void settle() {
+        if (defender.isDead()) {
+            status = Status.ATTACKER_WON;
+        } else if (attacker.isDead()) {
+            status = Status.DEFENDER_WON;
+        } else if (rounds >= roundLimit) {
+            status = Status.ROUND_LIMIT;
+        }
+    }
+
+    public Status getStatus() { return status; }
+
+    public boolean isFinished() { return status != Status.IN_PROGRESS; }
+
+    /** rounds played so far */
+    public int getRounds() { return rounds; }
+
+    public int getRoundLimit() { return roundLimit; }
+
+    public Combatant getAttacker() { return attacker; }
+
+    public Combatant getDefender() { return defender; }
+
+    /**
+     * returns the result of the rounds played so far, the final one once the fight is over;
+     * it is {@link BattleResult#isCalledOff() called off} if the round limit ended the fight
+     */
+    public BattleResult getResult() {
+        return new BattleResult(defender.getName(), rounds, dmgByAttacker, dmgByDefender,
+                status == Status.ROUND_LIMIT);
+    }
+
+    @Override
+    public String toString() {
+        return "CombatEngine[" + status + ", rounds=" + rounds + "]";
+    }
+}
@@ -0,0 +1,111 @@
+package game.Model.combat;
+
+import java.util.Arrays;
+
+/**
+ * The odds of a fight, from the simulated duels of a {@link CombatPredictor}.
+ */
+public final class CombatPrediction {
+
+    /**
+     * How a total, like the damage one side dealt in a duel, was spread over the duels.
+     */
+    public static final class Distribution {
+        // counts[v] is how many duels ended with the total v
+        private final long[] counts;
+        private final long samples;
+        private final double mean;
+
+        Distribution(long[] counts) {
+            this.counts = counts;
+            long n = 0;
+            double sum = 0;
+            for (int v = 0; v < counts.length; v++) {
+                n += counts[v];
+                sum += (double) v * counts[v];
+            }
+            this.samples = n;
+            this.mean = n == 0 ? 0 : sum / n;
+        }
+
+        public double getMean() { return mean; }
+
+        /**
+         * returns the smallest total that at least {@code p} (0 to 1) of the duels stayed at or below
+         */
+        public int getPercentile(double p) {
+            if (samples == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(p * samples));
+            long seen = 0;
+            for (int v = 0; v < counts.length; v++) {
+                seen += counts[v];
+                if (seen >= rank) return v;
+            }
+            return counts.length - 1;
+        }
+
+        public int getMin() { return getPercentile(0); }
+
+        public int getMax() { return getPercentile(1); }
+
+        /**
+         * returns how many duels ended with this total
+         */
+        public long getCount(int total) {
+            return total >= 0 && total < counts.length ? counts[total] : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("mean=%.1f, p10=%d, p50=%d, p90=%d", mean, getPercentile(0.1), getPercentile(0.5), getPercentile(0.9));
+        }
+    }
+
+    private final int trials;
+    private final int attackerWins;
+    private final int defenderWins;
+    private final long totalRounds;
+    private final Distribution dmgByAttacker;
+    private final Distribution dmgByDefender;
+    private final long elapsedNanos;
+
+    CombatPrediction(int trials, int attackerWins, int defenderWins, long totalRounds,
+                     long[] dmgByAttacker, long[] dmgByDefender, long elapsedNanos) {
+        this.trials = trials;
+        this.attackerWins = attackerWins;
+        this.defenderWins = defenderWins;
+        this.totalRounds = totalRounds;
+        this.dmgByAttacker = new Distribution(Arrays.copyOf(dmgByAttacker, dmgByAttacker.length));
+        this.dmgByDefender = new Distribution(Arrays.copyOf(dmgByDefender, dmgByDefender.length));
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /** how many duels were simulated, fewer than asked for if the time budget ran out */
+    public int getTrials() { return trials; }
+
+    /** share of the duels the attacker won */
+    public double getWinProbability() { return trials == 0 ? 0 : (double) attackerWins / trials; }
+
+    /** share of the duels the defender won */
+    public double getLossProbability() { return trials == 0 ? 0 : (double) defenderWins / trials; }
+
+    /** share of the duels nobody won: out of range or too long */
+    public double getDrawProbability() { return trials == 0 ? 0 : (double) (trials - attackerWins - defenderWins) / trials; }
+
+    public double getExpectedRounds() { return trials == 0 ? 0 : (double) totalRounds / trials; }
+
+    /** damage the attacker dealt per duel */
+    public Distribution getDmgByAttacker() { return dmgByAttacker; }
+
+    /** damage the defender dealt per duel, what the attacker can expect to lose */
+    public Distribution getDmgByDefender() { return dmgByDefender; }
+
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    @Override
+    public String toString() {
+        return String.format("CombatPrediction[trials=%d, win=%.1f%%, loss=%.1f%%, rounds=%.1f, dmgByAttacker={%s}, dmgByDefender={%s}, %.1fms]",
+                trials, getWinProbability() * 100, getLossProbability() * 100, getExpectedRounds(),
+                dmgByAttacker, dmgByDefender, elapsedNanos / 1e6);
+    }
+}
@@ -0,0 +1,185 @@
+package game.Model.combat;
+
+import game.Model.characters.AbstractCharacter;
+import game.Model.decorator.ModifierPipeline;
+import game.Model.map.Position;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Estimates how a fight would go by playing it many times on copies of the two sides.
+ *
+ * <p>
+ * The fighters are copied once with {@link AbstractCharacter#copyForSimulation()}, with what
+ * their decorators do compiled in, so the game itself is never touched and no lock is needed
+ * while the duels run. The duels are split into chunks that run on a fork/join pool; every chunk
+ * makes its own copies, resets them before every duel and plays it with a {@link CombatEngine}
+ * to the end, counting who won, the rounds and the damage dealt. The chunks are added up into
+ * one {@link CombatPrediction}. When the time budget runs out the duels not yet started are
+ * dropped, and the prediction says how many were played.
+ * </p>
+ */
+public class CombatPredictor {
+
+    public static final int DEFAULT_TRIALS = 10_000;
+    public static final long DEFAULT_BUDGET_NANOS = 20_000_000L;
+
+    // how many duels one task plays without splitting further
+    private static final int CHUNK = 512;
+    // damage totals above this are counted as this
+    private static final int MAX_DAMAGE = 1_000;
+
+    private final ForkJoinPool pool;
+    private final int roundLimit;
+
+    public CombatPredictor() {
+        this(ForkJoinPool.commonPool(), 200);
+    }
+
+    /**
+     * @param roundLimit how many rounds a single duel may last
+     */
+    public CombatPredictor(ForkJoinPool pool, int roundLimit) {
+        if (pool == null) {
+            throw new IllegalArgumentException("pool is required");
+        }
+        if (roundLimit <= 0) {
+            throw new IllegalArgumentException("roundLimit must be positive: " + roundLimit);
+        }
+        this.pool = pool;
+        this.roundLimit = roundLimit;
+    }
+
+    /**
+     * predicts the fight as if the two stood side by side, with the default trials and budget
+     */
+    public CombatPrediction predict(AbstractCharacter attacker, AbstractCharacter defender) {
+        return predict(attacker, defender, 1, DEFAULT_TRIALS, DEFAULT_BUDGET_NANOS);
+    }
+
+    /**
+     * Predicts the fight between the two in their current state.
+     *
+     * @param distance how many cells apart the two fight in the same row, or -1 to keep their cells
+     * @param trials how many duels to play
+     * @param budgetNanos how long the duels may take together, duels not started by then are dropped
+     */
+    public CombatPrediction predict(AbstractCharacter attacker, AbstractCharacter defender,
+                                    int distance, int trials, long budgetNanos) {
+        if (trials <= 0) {
+            throw new IllegalArgumentException("trials must be positive: " + trials);
+        }
+        long start = System.nanoTime();
+        AbstractCharacter a = prototype(attacker);
+        AbstractCharacter d = prototype(defender);
+        if (distance >= 0) {
+            a.setPosition(new Position(0, 0));
+            d.setPosition(new Position(0, distance));
+        }
+
+        Tally tally = pool.invoke(new Trials(a, d, roundLimit, 0, trials, start + budgetNanos));
+        return new CombatPrediction(tally.trials, tally.attackerWins, tally.defenderWins, tally.rounds,
+                tally.dmgByAttacker, tally.dmgByDefender, System.nanoTime() - start);
+    }
+
+    // a copy with the decorators of the original compiled into it
+    private static AbstractCharacter prototype(AbstractCharacter original) {
+        return original.copyForSimulation();
+    }
+
+    /**
+     * What a chunk of duels came to.
+     */
+    private static final class Tally {
+        int trials;
+        int attackerWins;
+        int defenderWins;
+        long rounds;
+        final long[] dmgByAttacker = new long[MAX_DAMAGE + 1];
+        final long[] dmgByDefender = new long[MAX_DAMAGE + 1];
+
+        Tally add(Tally other) {
+            trials += other.trials;
+            attackerWins += other.attackerWins;
+            defenderWins += other.defenderWins;
+            rounds += other.rounds;
+            for (int i = 0; i <= MAX_DAMAGE; i++) {
+                dmgByAttacker[i] += other.dmgByAttacker[i];
+                dmgByDefender[i] += other.dmgByDefender[i];
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Plays the duels {@code from} to {@code to}, splitting them in halves down to {@link #CHUNK}.
+     */
+    @SuppressWarnings("serial") // a fork/join task, never serialized
+    private static final class Trials extends RecursiveTask<Tally> {
+        private final AbstractCharacter attacker;
+        private final AbstractCharacter defender;
+        private final int roundLimit;
+        private final int from;
+        private final int to;
+        private final long deadline;
+
+        Trials(AbstractCharacter attacker, AbstractCharacter defender, int roundLimit,
+               int from, int to, long deadline) {
+            this.attacker = attacker;
+            this.defender = defender;
+            this.roundLimit = roundLimit;
+            this.from = from;
+            this.to = to;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from > CHUNK) {
+                int mid = (from + to) >>> 1;
+                Trials left = new Trials(attacker, defender, roundLimit, from, mid, deadline);
+                left.fork();
+                Tally right = new Trials(attacker, defender, roundLimit, mid, to, deadline).compute();
+                return right.add(left.join());
+            }
+            return play();
+        }
+
+        private Tally play() {
+            Tally tally = new Tally();
+            // the prototypes are shared by all chunks and only read, every chunk fights its own copies
+            AbstractCharacter a = attacker.copyForSimulation();
+            AbstractCharacter d = defender.copyForSimulation();
+            for (int i = from; i < to; i++) {
+                if (System.nanoTime() - deadline > 0) {
+                    break;
+                }
+                reset(a, attacker);
+                reset(d, defender);
+
+                CombatEngine engine = new CombatEngine(a, d, roundLimit);
+                engine.runToEnd();
+                tally.trials++;
+                tally.rounds += engine.getRounds();
+                if (engine.getStatus() == CombatEngine.Status.ATTACKER_WON) {
+                    tally.attackerWins++;
+                } else if (engine.getStatus() == CombatEngine.Status.DEFENDER_WON) {
+                    tally.defenderWins++;
+                }
+                BattleResult result = engine.getResult();
+                tally.dmgByAttacker[Math.min(MAX_DAMAGE, result.getDmgByPlayer())]++;
+                tally.dmgByDefender[Math.min(MAX_DAMAGE, result.getDmgByEnemy())]++;
+            }
+            return tally;
+        }
+
+        // back to the prototype before the next duel, with the gates of its decorators started over
+        private static void reset(AbstractCharacter copy, AbstractCharacter prototype) {
+            copy.setHealth(prototype.getHealth());
+            copy.setPower(prototype.getBasePower());
+            ModifierPipeline m = prototype.getModifiers();
+            copy.setModifiers(m == null ? null : m.forSimulation());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package game.Model.combat;
+
+/**
+ * What happened in one round of a {@link CombatEngine}: the attacker struck once, and the
+ * defender struck back if it was still alive.
+ */
+public final class CombatRound {
+    private final int round;
+    private final int dmgByAttacker;
+    private final int dmgByDefender;
+    private final int attackerHealth;
+    private final int defenderHealth;
+
+    public CombatRound(int round, int dmgByAttacker, int dmgByDefender, int attackerHealth, int defenderHealth) {
+        this.round = round;
+        this.dmgByAttacker = dmgByAttacker;
+        this.dmgByDefender = dmgByDefender;
+        this.attackerHealth = attackerHealth;
+        this.defenderHealth = defenderHealth;
+    }
+
+    /** the number of the round, starting at 1 */
+    public int getRound() { return round; }
+
+    public int getDmgByAttacker() { return dmgByAttacker; }
+
+    public int getDmgByDefender() { return dmgByDefender; }
+
+    /** health of the attacker after the round */
+    public int getAttackerHealth() { return attackerHealth; }
+
+    /** health of the defender after the round */
+    public int getDefenderHealth() { return defenderHealth; }
+
+    @Override
+    public String toString() {
+        return String.format("Round %d: dmgByAttacker=%d, dmgByDefender=%d, attackerHP=%d, defenderHP=%d",
+                round, dmgByAttacker, dmgByDefender, attackerHealth, defenderHealth);
+    }
+}
@@ -1,8 +1,8 @@
 package game.Model.combat;
 import game.Model.combat.BattleResult;
-import game.Model.combat.MeleeFighter;
-import game.Model.combat.RangedFighter;
 import game.Model.combat.Combatant;
+
+import java.util.function.Consumer;
 /**
  * Handles resolving combat between any two combatants.
  */
@@ -11,45 +11,21 @@ public class CombatSystem {
 
     /**
      * Resolves combat between an attacker and defender, handling range, evasion, damage, and defeat.
+     * The fight is played by a {@link CombatEngine}, so it also ends when neither side can reach
+     * the other or after {@link CombatEngine#DEFAULT_ROUND_LIMIT} rounds.
      */
     public static BattleResult resolveCombat(Combatant attacker, Combatant defender) {
-        if (attacker == null || defender == null) return null;
-
-        int rounds = 0;
-        int totalDamageByAttacker = 0;
-        int totalDamageByDefender = 0;
-
-        while (!attacker.isDead() && !defender.isDead()) {
-            rounds++;
-
-            // attacker strikes defender
-            int preHp = defender.getHealth();
-            performSingleAttack(attacker, defender);
-            totalDamageByAttacker += Math.max(0, preHp - defender.getHealth());
-            if (defender.isDead()) break;
-
-            // defender strikes back
-            preHp = attacker.getHealth();
-            performSingleAttack(defender, attacker);
-            totalDamageByDefender += Math.max(0, preHp - attacker.getHealth());
-            if (attacker.isDead()) break;
-        }
-
-        return new BattleResult(
-                defender.getName(),
-                rounds,
-                totalDamageByAttacker,
-                totalDamageByDefender
-        );
+        return resolveCombat(attacker, defender, null);
     }
 
-    private static void performSingleAttack(Combatant atk, Combatant def) {
-        if (atk instanceof MeleeFighter melee
-                && melee.isInMeleeRange(atk.getPosition(), def.getPosition())) {
-            melee.fightClose(def);
-        } else if (atk instanceof RangedFighter ranged
-                && ranged.isInRange(atk.getPosition(), def.getPosition())) {
-            ranged.fightRanged(def);
-        }
+    /**
+     * Like {@link #resolveCombat(Combatant, Combatant)}, telling {@code roundListener} about every round.
+     */
+    public static BattleResult resolveCombat(Combatant attacker, Combatant defender, Consumer<CombatRound> roundListener) {
+        if (attacker == null || defender == null) return null;
+
+        CombatEngine engine = new CombatEngine(attacker, defender);
+        engine.setRoundListener(roundListener);
+        return engine.runToEnd();
     }
-}
\ No newline at end of file
+}
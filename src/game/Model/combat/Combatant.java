@@ -73,4 +73,11 @@ public interface Combatant {
      * getter for the name of character/enemy
      */
     String getName();
+
+    /**
+     * called after the combatant struck in a fight, whether or not the strike hit;
+     * an effect that ends when its owner strikes, like a camouflage, hears about it here
+     */
+    default void struck() {
+    }
     }
@@ -0,0 +1,29 @@
+package game.Model.combat;
+
+/**
+ * One fight a {@link BatchCombatResolver} is asked to resolve: who attacks whom.
+ */
+public final class Engagement {
+    private final Combatant attacker;
+    private final Combatant defender;
+
+    public Engagement(Combatant attacker, Combatant defender) {
+        if (attacker == null || defender == null) {
+            throw new IllegalArgumentException("attacker and defender are required");
+        }
+        if (attacker == defender) {
+            throw new IllegalArgumentException("a combatant cannot fight itself");
+        }
+        this.attacker = attacker;
+        this.defender = defender;
+    }
+
+    public Combatant getAttacker() { return attacker; }
+
+    public Combatant getDefender() { return defender; }
+
+    @Override
+    public String toString() {
+        return attacker.getName() + " -> " + defender.getName();
+    }
+}
@@ -0,0 +1,201 @@
+package game.Model.core;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The entities of one kind in a world, like its enemies or its items, for many threads at once.
+ *
+ * <p>
+ * The entities are kept by {@link GameEntity#getId() id} in a concurrent hash map, so adding,
+ * removing and {@link #contains(Object)} are O(1) and never copy the list, however many entities
+ * there are. Iterating and streaming are weakly consistent: they never throw
+ * {@link java.util.ConcurrentModificationException}, see every entity that was there when they
+ * started and was not removed since, and may or may not see the ones added meanwhile.
+ * </p>
+ *
+ * <p>
+ * It is a {@link java.util.List} so the callers of {@code getEnemies()} and {@code getItems()}
+ * keep working, but the entities have no stable order: {@link #get(int)} walks the entities and
+ * is O(n), and the positional changes ({@code set}, {@code add(int, E)}) are not supported; use
+ * {@link #replace(GameEntity)} instead. An entity is in the list at most once. The number of
+ * entities of every concrete type is kept up to date on every change.
+ * </p>
+ *
+ * @param <E> the kind of entity
+ */
+public class ConcurrentEntityList<E extends GameEntity> extends AbstractList<E> {
+
+    private final ConcurrentHashMap<Long, E> entities = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Class<?>, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+    public ConcurrentEntityList() {
+    }
+
+    public ConcurrentEntityList(Collection<? extends E> entities) {
+        addAll(entities);
+    }
+
+    /**
+     * adds the entity, returns false if an entity with the same id is already in the list
+     */
+    @Override
+    public boolean add(E entity) {
+        Objects.requireNonNull(entity, "entity");
+        if (entities.putIfAbsent(entity.getId(), entity) != null) {
+            return false;
+        }
+        count(entity, 1);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return o instanceof GameEntity entity && removeById(entity.getId()) != null;
+    }
+
+    /**
+     * removes the entity with this id and returns it, or null if it was not in the list
+     */
+    public E removeById(long id) {
+        E removed = entities.remove(id);
+        if (removed != null) {
+            count(removed, -1);
+        }
+        return removed;
+    }
+
+    /**
+     * Puts {@code entity} in the place of the entity with the same id, for example a decorated
+     * enemy in the place of the plain one.
+     *
+     * @return the entity that was replaced, or null if there was none and nothing changed
+     */
+    public E replace(E entity) {
+        Objects.requireNonNull(entity, "entity");
+        E old = entities.replace(entity.getId(), entity);
+        if (old != null && old.getClass() != entity.getClass()) {
+            count(old, -1);
+            count(entity, 1);
+        }
+        return old;
+    }
+
+    /**
+     * returns the entity with this id, or null
+     */
+    public E getById(long id) {
+        return entities.get(id);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof GameEntity entity && entities.containsKey(entity.getId());
+    }
+
+    @Override
+    public int size() {
+        return entities.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entities.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        for (Long id : entities.keySet()) {
+            removeById(id);
+        }
+    }
+
+    /**
+     * returns the entity the iteration reaches {@code index}-th, O(n)
+     */
+    @Override
+    public E get(int index) {
+        if (index >= 0) {
+            int i = 0;
+            for (E entity : entities.values()) {
+                if (i++ == index) {
+                    return entity;
+                }
+            }
+        }
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        Iterator<E> values = entities.values().iterator();
+        return new Iterator<>() {
+            private E last;
+
+            @Override
+            public boolean hasNext() {
+                return values.hasNext();
+            }
+
+            @Override
+            public E next() {
+                if (!values.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return last = values.next();
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                removeById(last.getId());
+                last = null;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return entities.values().spliterator();
+    }
+
+    /**
+     * returns how many entities of this type, or of a subtype, are in the list
+     */
+    public int countOf(Class<?> type) {
+        int n = 0;
+        for (Map.Entry<Class<?>, AtomicInteger> e : counts.entrySet()) {
+            if (type.isAssignableFrom(e.getKey())) {
+                n += e.getValue().get();
+            }
+        }
+        return n;
+    }
+
+    /**
+     * returns the number of entities of every concrete type in the list, by simple class name
+     */
+    public Map<String, Integer> getCounts() {
+        Map<String, Integer> byName = new TreeMap<>();
+        counts.forEach((type, n) -> {
+            if (n.get() > 0) {
+                byName.merge(type.getSimpleName(), n.get(), Integer::sum);
+            }
+        });
+        return byName;
+    }
+
+    private void count(E entity, int delta) {
+        counts.computeIfAbsent(entity.getClass(), k -> new AtomicInteger()).addAndGet(delta);
+    }
+}
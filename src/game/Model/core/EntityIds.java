@@ -0,0 +1,22 @@
+package game.Model.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out the ids of the entities. Ids start at 1, are unique in the process and never reused,
+ * so 0 can mean "no entity".
+ */
+public final class EntityIds {
+
+    private static final AtomicLong next = new AtomicLong(1);
+
+    private EntityIds() {
+    }
+
+    /**
+     * returns a new id
+     */
+    public static long next() {
+        return next.getAndIncrement();
+    }
+}
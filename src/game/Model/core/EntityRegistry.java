@@ -0,0 +1,110 @@
+package game.Model.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds entities by their {@link GameEntity#getId() id}.
+ *
+ * <p>
+ * The lookup does not depend on anything that changes while the game runs (health, power,
+ * position), only on the id, and registering and removing an entity are O(1). The registry
+ * may be used from many threads. The ids are spread over {@link #STRIPES} maps with a lock
+ * each, so entities added and removed in different regions of the map by different threads
+ * rarely wait for each other; every method holds a stripe for a single map operation.
+ * </p>
+ */
+public class EntityRegistry {
+
+    static final int STRIPES = 64;
+
+    private final LongHashMap<GameEntity>[] stripes;
+
+    public EntityRegistry() {
+        // no generic array can be made; the array only ever holds maps of entities
+        @SuppressWarnings("unchecked")
+        LongHashMap<GameEntity>[] maps = (LongHashMap<GameEntity>[]) new LongHashMap<?>[STRIPES];
+        stripes = maps;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new LongHashMap<>();
+        }
+    }
+
+    // ids are handed out in sequence, mix them so neighbours land on different stripes
+    private LongHashMap<GameEntity> stripe(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (h >>> 58) & (STRIPES - 1)];
+    }
+
+    /**
+     * adds the entity, replacing an entity with the same id
+     */
+    public void register(GameEntity entity) {
+        LongHashMap<GameEntity> s = stripe(entity.getId());
+        synchronized (s) {
+            s.put(entity.getId(), entity);
+        }
+    }
+
+    /**
+     * removes the entity with this id and returns it, or null if it was not registered
+     */
+    public GameEntity unregister(long id) {
+        LongHashMap<GameEntity> s = stripe(id);
+        synchronized (s) {
+            return s.remove(id);
+        }
+    }
+
+    /**
+     * returns the entity with this id, or null
+     */
+    public GameEntity get(long id) {
+        LongHashMap<GameEntity> s = stripe(id);
+        synchronized (s) {
+            return s.get(id);
+        }
+    }
+
+    public boolean contains(long id) {
+        LongHashMap<GameEntity> s = stripe(id);
+        synchronized (s) {
+            return s.containsKey(id);
+        }
+    }
+
+    /**
+     * returns how many entities are registered, not atomic across the stripes
+     */
+    public int size() {
+        int size = 0;
+        for (LongHashMap<GameEntity> s : stripes) {
+            synchronized (s) {
+                size += s.size();
+            }
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (LongHashMap<GameEntity> s : stripes) {
+            synchronized (s) {
+                s.clear();
+            }
+        }
+    }
+
+    /**
+     * returns a copy of the registered entities, in no particular order; stripe by stripe,
+     * so not atomic while others register
+     */
+    public List<GameEntity> snapshot() {
+        List<GameEntity> all = new ArrayList<>();
+        for (LongHashMap<GameEntity> s : stripes) {
+            synchronized (s) {
+                s.forEachValue(all::add);
+            }
+        }
+        return all;
+    }
+}
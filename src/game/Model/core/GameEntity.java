@@ -11,6 +11,11 @@ import game.Model.map.Position;
  */
 public interface GameEntity {
 
+    /**
+     * returns the id of the entity, unique in the process and fixed for the life of the entity
+     */
+    long getId();
+
     /**
      * returns the current position of the entity on the map
      */
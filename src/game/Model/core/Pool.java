@@ -0,0 +1,132 @@
+package game.Model.core;
+
+import java.util.Arrays;
+
+/**
+ * A bounded stack of objects that can be used again.
+ *
+ * <p>
+ * {@link #take()} hands out an object that was {@link #give(Object) given} back before, or null
+ * when there is none and the caller has to make a new one. The pool does not reset anything:
+ * the caller resets an object when it takes it, and may only give an object back once nothing
+ * else uses it any more, and only once. Objects given back while the pool is full are dropped
+ * and left to the garbage collector. Every method holds the monitor of the pool.
+ * </p>
+ *
+ * @param <T> the kind of object kept
+ */
+public class Pool<T> {
+
+    private final String name;
+    private Object[] free = new Object[16];
+    private int size;
+    private int capacity;
+
+    private long reused;
+    private long misses;
+    private long returned;
+    private long dropped;
+
+    /**
+     * @param capacity how many idle objects are kept at most, 0 turns the pool off
+     */
+    public Pool(String name, int capacity) {
+        this.name = name;
+        setCapacity(capacity);
+    }
+
+    /**
+     * returns an idle object, or null if the caller has to make a new one
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized T take() {
+        if (size == 0) {
+            misses++;
+            return null;
+        }
+        reused++;
+        T object = (T) free[--size];
+        free[size] = null;
+        return object;
+    }
+
+    /**
+     * keeps the object for a later {@link #take()}, returns false if it was dropped
+     */
+    public synchronized boolean give(T object) {
+        if (size >= capacity) {
+            dropped++;
+            return false;
+        }
+        if (size == free.length) {
+            free = Arrays.copyOf(free, Math.min(capacity, size * 2));
+        }
+        free[size++] = object;
+        returned++;
+        return true;
+    }
+
+    /**
+     * sets how many idle objects are kept, the ones above the new capacity are dropped
+     */
+    public synchronized void setCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+        }
+        this.capacity = capacity;
+        if (size > capacity) {
+            Arrays.fill(free, capacity, size, null);
+            size = capacity;
+        }
+    }
+
+    public synchronized int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * returns how many idle objects are waiting to be taken
+     */
+    public synchronized int getIdle() {
+        return size;
+    }
+
+    /**
+     * returns how many times {@link #take()} handed out an idle object
+     */
+    public synchronized long getReused() {
+        return reused;
+    }
+
+    /**
+     * returns how many times {@link #take()} found the pool empty, so a new object was made
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getReturned() {
+        return returned;
+    }
+
+    public synchronized long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * sets every counter back to 0, the idle objects stay
+     */
+    public synchronized void resetCounters() {
+        reused = misses = returned = dropped = 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("Pool[%s, idle=%d/%d, reused=%d, new=%d, returned=%d, dropped=%d]",
+                name, size, capacity, reused, misses, returned, dropped);
+    }
+}
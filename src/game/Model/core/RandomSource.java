@@ -0,0 +1,136 @@
+package game.Model.core;
+
+import java.util.SplittableRandom;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * The random numbers of a game world: one root generator, and split from it a generator for
+ * every thread that draws for the world.
+ *
+ * <p>
+ * Rolls used to make a new {@link java.util.Random} each time, which allocated and fought over
+ * the shared seed on every hit and evade, and made no two runs alike. Now every world has its own
+ * source, and every thread draws from its own stream of that source, split from the root the
+ * first time the thread draws, so drawing allocates nothing and needs no synchronization.
+ * The streams do not depend on the names of the threads, which repeat between worlds and pools.
+ * {@link #setSeed(long)} starts the root and every stream over; a run in which the threads start
+ * drawing in the same order, like a HOSTED world on a virtual clock, then plays exactly the same
+ * again. The seed is random unless it is set.
+ * </p>
+ *
+ * <p>
+ * {@link #current()} draws from the source bound to the calling thread with
+ * {@link #bind(RandomSource)}, as {@code GameWorld.runInWorld} does, or from the default source.
+ * The generator of a thread must not be handed to another thread.
+ * </p>
+ */
+public final class RandomSource {
+
+    private static final RandomSource DEFAULT = new RandomSource();
+    private static final ThreadLocal<RandomSource> bound = new ThreadLocal<>();
+
+    private static volatile LongFunction<RandomGenerator> factory;
+
+    private long seed;
+    private SplittableRandom root;
+    // bumped whenever the seed or the factory changes, a thread whose stream is older makes a new one
+    private volatile int generation;
+
+    private final ThreadLocal<Stream> streams = ThreadLocal.withInitial(Stream::new);
+
+    /**
+     * The generator of one thread and the generation it was made for.
+     */
+    private static final class Stream {
+        int generation = -1;
+        RandomGenerator generator;
+    }
+
+    /**
+     * a source with a random seed
+     */
+    public RandomSource() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    public RandomSource(long seed) {
+        this.seed = seed;
+        this.root = new SplittableRandom(seed);
+    }
+
+    /**
+     * returns the generator of the calling thread, from the source bound to it or the default one
+     */
+    public static RandomGenerator current() {
+        RandomSource source = bound.get();
+        return (source != null ? source : DEFAULT).generator();
+    }
+
+    /**
+     * Makes {@code source} the source of the current thread.
+     *
+     * @param source the source to bind, or null to go back to the default source
+     * @return the source that was bound before, or null
+     */
+    public static RandomSource bind(RandomSource source) {
+        RandomSource previous = bound.get();
+        if (source == null) {
+            bound.remove();
+        } else {
+            bound.set(source);
+        }
+        return previous;
+    }
+
+    /**
+     * returns the source of threads no world is bound to
+     */
+    public static RandomSource getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * returns the generator of the calling thread for this source
+     */
+    public RandomGenerator generator() {
+        Stream stream = streams.get();
+        int gen = generation;
+        if (stream.generation != gen) {
+            stream.generator = split();
+            stream.generation = gen;
+        }
+        return stream.generator;
+    }
+
+    // the next stream of the root, in the order the threads ask for one
+    private synchronized RandomGenerator split() {
+        LongFunction<RandomGenerator> f = factory;
+        return f == null ? root.split() : f.apply(root.nextLong());
+    }
+
+    /**
+     * sets the seed of the root and starts every stream of this source over
+     */
+    public synchronized void setSeed(long seed) {
+        this.seed = seed;
+        this.root = new SplittableRandom(seed);
+        generation++;
+    }
+
+    public synchronized long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Chooses the algorithm of every source: {@code factory} makes the generator of a stream
+     * from a seed drawn from the root; by default the root is split. Streams made from now on
+     * use it, {@link #setSeed(long)} starts them over.
+     */
+    public static void setFactory(LongFunction<RandomGenerator> factory) {
+        if (factory == null) {
+            throw new IllegalArgumentException("factory is required");
+        }
+        RandomSource.factory = factory;
+    }
+}
@@ -4,16 +4,21 @@ import game.Model.characters.AbstractCharacter;
 import game.Model.combat.Combatant;
 import game.Model.combat.MagicElement;
 import game.Model.core.GameEntity;
+import game.Model.engine.GameClock;
+import game.Model.engine.GameWorld;
 import game.Model.map.Position;
 
 /**
  * Base decorator class for adding temporary abilities to characters.
  * Implements the Decorator pattern by wrapping an AbstractCharacter.
- *
+ * A decorator takes no slot in the {@link game.Model.characters.StatStore}, every stat is the
+ * one of the character it wraps.
  */
 public abstract class CharacterDecorator extends AbstractCharacter {
 
     private final AbstractCharacter wrappedCharacter;
+    // the clock of the world the decorator was made in, so it expires in game time
+    private final GameClock clock;
     private final long startTime;
     private final long duration; // in milliseconds
 
@@ -24,9 +29,10 @@ public abstract class CharacterDecorator extends AbstractCharacter {
      * @param durationSeconds The duration of the effect in seconds
      */
     protected CharacterDecorator(AbstractCharacter character, int durationSeconds) {
-        super();
+        super(character);
         this.wrappedCharacter = character;
-        this.startTime = System.currentTimeMillis();
+        this.clock = GameWorld.getInstance().getClock();
+        this.startTime = clock.millis();
         this.duration = durationSeconds * 1000L;
     }
 
@@ -36,7 +42,56 @@ public abstract class CharacterDecorator extends AbstractCharacter {
      * @return true if the effect is active, false if expired
      */
     public boolean isActive() {
-        return (System.currentTimeMillis() - startTime) < duration;
+        return (now() - startTime) < duration;
+    }
+
+    /**
+     * returns the current game time in milliseconds
+     */
+    protected long now() {
+        return clock.millis();
+    }
+
+    GameClock clock() {
+        return clock;
+    }
+
+    /**
+     * returns the game time the effect ends at
+     */
+    long expiresAt() {
+        return startTime + duration;
+    }
+
+    /**
+     * Adds what this decorator does to power, evasion and damage to the pipeline of the
+     * character. Called whenever the pipeline is compiled; does nothing by default.
+     */
+    protected void contributeModifiers(ModifierPipeline.Builder modifiers) {
+    }
+
+    /**
+     * For a decorator that added {@link ModifierPipeline.Builder#gateHits()}: returns true if it
+     * blocks the hit that is being taken. May change the state of the decorator.
+     */
+    protected boolean blocksHit() {
+        return false;
+    }
+
+    /**
+     * For a decorator that added {@link ModifierPipeline.Builder#gateHitsUntilStrike()}: the
+     * character struck, the gate opens. Does nothing by default.
+     */
+    protected void ownerStruck() {
+    }
+
+    /**
+     * For a decorator that added {@link ModifierPipeline.Builder#gateHits()}: returns how many of
+     * the coming hits it would block if nothing else happened, for simulations. Must not change
+     * the decorator.
+     */
+    protected int hitsToBlock() {
+        return 0;
     }
 
     /**
@@ -45,7 +100,7 @@ public abstract class CharacterDecorator extends AbstractCharacter {
      * @return Remaining seconds, or 0 if expired
      */
     public int getRemainingSeconds() {
-        long remaining = duration - (System.currentTimeMillis() - startTime);
+        long remaining = duration - (now() - startTime);
         return Math.max(0, (int)(remaining / 1000));
     }
 
@@ -59,7 +114,14 @@ public abstract class CharacterDecorator extends AbstractCharacter {
     }
 
     // ========== Delegated Methods ==========
-    // Most methods delegate to the wrapped character
+    // Most methods delegate to the wrapped character. Power, evasion and damage go straight to
+    // the base character, which applies its compiled pipeline once, however deep the stack is.
+
+    // a decorated character is still the same entity
+    @Override
+    public long getId() {
+        return wrappedCharacter.getId();
+    }
 
     @Override
     public Position getPosition() {
@@ -91,10 +153,17 @@ public abstract class CharacterDecorator extends AbstractCharacter {
         wrappedCharacter.setHealth(health);
     }
 
+    /**
+     * the power of the character with the effect of all its decorators
+     */
     @Override
     public int getPower() {
-        // Default implementation - can be overridden by specific decorators
-        return wrappedCharacter.getPower();
+        return getBaseCharacter().getPower();
+    }
+
+    @Override
+    public int getBasePower() {
+        return getBaseCharacter().getBasePower();
     }
 
     @Override
@@ -104,8 +173,12 @@ public abstract class CharacterDecorator extends AbstractCharacter {
 
     @Override
     public double getEvasionChance() {
-        // Default implementation - can be overridden by specific decorators
-        return wrappedCharacter.getEvasionChance();
+        return getBaseCharacter().getEvasionChance();
+    }
+
+    @Override
+    public double getBaseEvasionChance() {
+        return getBaseCharacter().getBaseEvasionChance();
     }
 
     @Override
@@ -121,8 +194,7 @@ public abstract class CharacterDecorator extends AbstractCharacter {
 
     @Override
     public void receiveDamage(int amount, Combatant source) {
-        // Default implementation - can be overridden by specific decorators
-        wrappedCharacter.receiveDamage(amount, source);
+        getBaseCharacter().receiveDamage(amount, source);
     }
 
     @Override
@@ -130,6 +202,11 @@ public abstract class CharacterDecorator extends AbstractCharacter {
         return wrappedCharacter.isDead();
     }
 
+    @Override
+    public void struck() {
+        getBaseCharacter().struck();
+    }
+
     @Override
     public void heal(int amount) {
         wrappedCharacter.heal(amount);
@@ -137,8 +214,7 @@ public abstract class CharacterDecorator extends AbstractCharacter {
 
     @Override
     public void takeDamage(int dmg) {
-        // Default implementation - can be overridden by specific decorators
-        wrappedCharacter.takeDamage(dmg);
+        getBaseCharacter().takeDamage(dmg);
     }
 
     @Override
@@ -147,6 +223,29 @@ public abstract class CharacterDecorator extends AbstractCharacter {
         wrappedCharacter.attack(target);
     }
 
+    @Override
+    public void setWorldId(int worldId) {
+        getBaseCharacter().setWorldId(worldId);
+    }
+
+    @Override
+    public int getWorldId() {
+        return getBaseCharacter().getWorldId();
+    }
+
+    /**
+     * the pipeline compiled for the base character, the decorators have none of their own
+     */
+    @Override
+    public ModifierPipeline getModifiers() {
+        return getBaseCharacter().getModifiers();
+    }
+
+    @Override
+    public void setModifiers(ModifierPipeline modifiers) {
+        getBaseCharacter().setModifiers(modifiers);
+    }
+
     @Override
     public MagicElement getElement() {
         return wrappedCharacter.getElement();
@@ -158,6 +257,14 @@ public abstract class CharacterDecorator extends AbstractCharacter {
         return wrappedCharacter.getDisplaySymbol() + "*";
     }
 
+    /**
+     * a simulation copy of the base character, which carries the compiled effect of the decorators
+     */
+    @Override
+    public AbstractCharacter copyForSimulation() {
+        return wrappedCharacter.copyForSimulation();
+    }
+
     /**
      * Gets the base character without any decorators.
      * Useful for checking the original type.
@@ -1,17 +1,28 @@
 package game.Model.decorator;
 
+import game.Controller.GameEvent;
 import game.Model.characters.*;
+import game.Model.core.RandomSource;
 import game.Model.decorator.player.*;
 import game.Model.decorator.enemy.*;
 import game.Model.engine.GameWorld;
+import game.Model.engine.VirtualClock;
 import game.Util.GameLogger;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
 
 /**
  * Manages the application and removal of decorators on characters.
  * Handles the lifecycle of temporary effects.
+ * Every {@link GameWorld} has its own manager; the expired decorators of all of them
+ * are cleaned up by one shared background thread.
  *
  * @author [Your Name]
  * @author [Partner Name if applicable]
@@ -20,9 +31,18 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class DecoratorManager {
 
-    private static DecoratorManager instance;
+    // one cleanup thread for the managers of every world
+    private static final ScheduledExecutorService cleanupScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "DecoratorCleanup");
+        t.setDaemon(true);
+        return t;
+    });
 
-    // Track decorated characters and their original forms
+    private final GameWorld world;
+    private final ScheduledFuture<?> cleanupTask;
+
+    // Track decorated characters and their original forms. The lists are copy-on-write: the
+    // cleanup removes from them while decorators are applied from other threads
     private final Map<AbstractCharacter, AbstractCharacter> originalCharacters = new ConcurrentHashMap<>();
     private final Map<AbstractCharacter, List<CharacterDecorator>> activeDecorators = new ConcurrentHashMap<>();
 
@@ -62,16 +82,36 @@ public class DecoratorManager {
         }
     }
 
-    private DecoratorManager() {
-        // Start cleanup thread
-        startCleanupThread();
+    /**
+     * Creates the manager of a world, use {@link GameWorld#getDecoratorManager()} to get it.
+     */
+    public DecoratorManager(GameWorld world) {
+        this.world = world;
+        // Check every second; on a virtual clock GameWorld.runFor cleans up in game time instead
+        this.cleanupTask = world.getClock() instanceof VirtualClock ? null : cleanupScheduler.scheduleAtFixedRate(
+                () -> {
+                    // the clock may have been switched to a virtual one after the manager was made
+                    if (!(world.getClock() instanceof VirtualClock)) {
+                        world.runInWorld(this::cleanupExpiredDecorators);
+                    }
+                },
+                1, 1, TimeUnit.SECONDS);
     }
 
+    /**
+     * returns the decorator manager of the current world
+     */
     public static DecoratorManager getInstance() {
-        if (instance == null) {
-            instance = new DecoratorManager();
+        return GameWorld.getInstance().getDecoratorManager();
+    }
+
+    /**
+     * stops the periodic cleanup, called when the world stops
+     */
+    public void shutdown() {
+        if (cleanupTask != null) {
+            cleanupTask.cancel(false);
         }
-        return instance;
     }
 
     /**
@@ -98,9 +138,10 @@ public class DecoratorManager {
                     .newInstance(player, durationSeconds);
 
             // Track the decoration
-            activeDecorators.computeIfAbsent(player, k -> new ArrayList<>()).add(decorator);
+            track(player, decorator);
 
             GameLogger.getInstance().log("Applied " + type.getDisplayName() + " to " + player.getName());
+            world.publish(new GameEvent.DecoratorApplied(player, decorator.getDecoratorName(), player.getPosition()));
 
             // Return the original player - decorators are tracked internally
             return player;
@@ -121,10 +162,21 @@ public class DecoratorManager {
      * @return The original enemy (for chaining)
      */
     public Enemy applyRandomEnemyDecorator(Enemy enemy, int durationSeconds) {
-        Random rand = new Random();
+        RandomGenerator rand = RandomSource.current();
         EnemyDecoratorType[] types = EnemyDecoratorType.values();
-        EnemyDecoratorType selectedType = types[rand.nextInt(types.length)];
+        return applyEnemyDecorator(enemy, types[rand.nextInt(types.length)], durationSeconds);
+    }
 
+    /**
+     * Applies a decorator to an enemy.
+     * Note: The original enemy remains in the game list, decorator is tracked separately.
+     *
+     * @param enemy The enemy to decorate
+     * @param selectedType The type of decorator to apply
+     * @param durationSeconds Duration of the effect
+     * @return The original enemy (for chaining)
+     */
+    public Enemy applyEnemyDecorator(Enemy enemy, EnemyDecoratorType selectedType, int durationSeconds) {
         try {
             // Get the base character if already decorated
             AbstractCharacter base = getBaseCharacter(enemy);
@@ -139,9 +191,10 @@ public class DecoratorManager {
                     .newInstance(enemy, durationSeconds);
 
             // Track the decoration
-            activeDecorators.computeIfAbsent(enemy, k -> new ArrayList<>()).add(decorator);
+            track(enemy, decorator);
 
             GameLogger.getInstance().log("Applied " + selectedType.displayName + " to " + enemy.enemyDiscription());
+            world.publish(new GameEvent.DecoratorApplied(enemy, decorator.getDecoratorName(), enemy.getPosition()));
 
             // Return the original enemy - decorators are tracked internally
             return enemy;
@@ -163,6 +216,30 @@ public class DecoratorManager {
         return character;
     }
 
+    /**
+     * Adds the decorator to the character and compiles its pipeline again, atomically with the
+     * cleanup, which changes the list of the character only inside the same {@code compute}.
+     */
+    private void track(AbstractCharacter character, CharacterDecorator decorator) {
+        activeDecorators.compute(character, (k, decorators) -> {
+            if (decorators == null) {
+                decorators = new CopyOnWriteArrayList<>();
+            }
+            decorators.add(decorator);
+            recompile(k, decorators);
+            return decorators;
+        });
+    }
+
+    /**
+     * Compiles the active decorators of a character into its {@link ModifierPipeline}, or clears
+     * it if there are none. Only called while the entry of the character is being computed.
+     */
+    private void recompile(AbstractCharacter character, List<CharacterDecorator> decorators) {
+        AbstractCharacter base = getBaseCharacter(character);
+        base.setModifiers(decorators.isEmpty() ? null : ModifierPipeline.compile(base, decorators));
+    }
+
     /**
      * Gets the effective power of a character including all active decorators.
      *
@@ -170,39 +247,14 @@ public class DecoratorManager {
      * @return The modified power value
      */
     public int getEffectivePower(AbstractCharacter character) {
-        int basePower = character.getPower();
-        List<CharacterDecorator> decorators = activeDecorators.get(character);
-
-        if (decorators == null || decorators.isEmpty()) {
-            return basePower;
-        }
-
-        // Apply all active decorator effects
-        double multiplier = 1.0;
-        for (CharacterDecorator decorator : decorators) {
-            if (decorator.isActive()) {
-                // Check decorator type and apply multiplier
-                String decoratorName = decorator.getDecoratorName();
-                switch (decoratorName) {
-                    case "BoostedAttack":
-                        multiplier *= 1.5;
-                        break;
-                    case "MagicAmplifier":
-                        if (character.getElement() != null) {
-                            multiplier *= 1.4;
-                        }
-                        break;
-                    case "Enraged":
-                        // Calculate rage bonus based on health
-                        double healthPercent = (double)character.getHealth() / 50.0;
-                        double rageMultiplier = 1.0 + (0.5 * (1.0 - healthPercent));
-                        multiplier *= rageMultiplier;
-                        break;
-                }
-            }
-        }
+        return getBaseCharacter(character).getPower();
+    }
 
-        return (int)(basePower * multiplier);
+    /**
+     * Gets the effective evasion chance of a character including all active decorators.
+     */
+    public double getEffectiveEvasion(AbstractCharacter character) {
+        return getBaseCharacter(character).getEvasionChance();
     }
 
     /**
@@ -211,57 +263,49 @@ public class DecoratorManager {
      * @param character The character receiving damage
      * @param amount The base damage amount
      * @param source The source of damage
-     * @return The actual damage to apply
+     * @return The actual damage to apply, 0 if a decorator (like a shield or camouflage) blocked it
      */
     public int processDamage(AbstractCharacter character, int amount, AbstractCharacter source) {
-        List<CharacterDecorator> decorators = activeDecorators.get(character);
-
-        if (decorators == null || decorators.isEmpty()) {
+        ModifierPipeline modifiers = getBaseCharacter(character).getModifiers();
+        if (modifiers == null) {
             return amount;
         }
-
-        int modifiedDamage = amount;
-
-        for (CharacterDecorator decorator : decorators) {
-            if (decorator.isActive()) {
-                String decoratorName = decorator.getDecoratorName();
-
-                if ("Shield".equals(decoratorName) && decorator instanceof ShieldedPlayerDecorator) {
-                    // Let the decorator handle the damage
-                    decorator.receiveDamage(amount, source);
-                    return 0; // Damage was handled by decorator
-                }
-
-                if ("Camouflaged".equals(decoratorName) && decorator instanceof CamouflagedEnemyDecorator) {
-                    // Check if can be damaged
-                    CamouflagedEnemyDecorator camo = (CamouflagedEnemyDecorator) decorator;
-                    if (!camo.hasAttacked) {
-                        GameLogger.getInstance().log("Attack missed - enemy is camouflaged!");
-                        return 0;
-                    }
-                }
-            }
-        }
-
-        return modifiedDamage;
+        return Math.max(0, modifiers.hitDamage(amount));
     }
 
     /**
      * Removes all expired decorators from a character.
+     * Runs every second on its own; a world on a virtual clock calls it as its game time passes.
      */
-    private void cleanupExpiredDecorators() {
+    public void cleanupExpiredDecorators() {
         // Clean up expired decorators
-        for (Map.Entry<AbstractCharacter, List<CharacterDecorator>> entry : new HashMap<>(activeDecorators).entrySet()) {
-            AbstractCharacter character = entry.getKey();
-            List<CharacterDecorator> decorators = entry.getValue();
+        for (AbstractCharacter character : new ArrayList<>(activeDecorators.keySet())) {
+            List<CharacterDecorator> expired = new ArrayList<>();
+            boolean[] allExpired = new boolean[1];
+
+            // Remove expired decorators; a decorator applied meanwhile waits for the entry, so it
+            // is never dropped with the list or left out of the pipeline
+            activeDecorators.computeIfPresent(character, (k, decorators) -> {
+                // not removeAll: the decorators of a character are equal, they share its id
+                decorators.removeIf(d -> {
+                    if (d.isActive()) return false;
+                    expired.add(d);
+                    return true;
+                });
+                if (expired.isEmpty()) {
+                    return decorators;
+                }
+                recompile(k, decorators);
+                allExpired[0] = decorators.isEmpty();
+                return decorators.isEmpty() ? null : decorators;
+            });
 
-            // Remove expired decorators
-            decorators.removeIf(d -> !d.isActive());
+            for (CharacterDecorator d : expired) {
+                world.publish(new GameEvent.DecoratorExpired(character, d.getDecoratorName(), character.getPosition()));
+            }
 
-            if (decorators.isEmpty()) {
+            if (allExpired[0]) {
                 // All decorators expired
-                activeDecorators.remove(character);
-
                 String name = "";
                 if (character instanceof PlayerCharacter) {
                     name = ((PlayerCharacter) character).getName();
@@ -275,21 +319,14 @@ public class DecoratorManager {
     }
 
     /**
-     * Starts a background thread to clean up expired decorators.
+     * returns the characters that have decorators right now, undecorated
      */
-    private void startCleanupThread() {
-        Thread cleanupThread = new Thread(() -> {
-            while (true) {
-                try {
-                    Thread.sleep(1000); // Check every second
-                    cleanupExpiredDecorators();
-                } catch (InterruptedException e) {
-                    break;
-                }
-            }
-        }, "DecoratorCleanup");
-        cleanupThread.setDaemon(true);
-        cleanupThread.start();
+    public Set<AbstractCharacter> getDecoratedCharacters() {
+        Set<AbstractCharacter> decorated = new HashSet<>();
+        for (AbstractCharacter c : activeDecorators.keySet()) {
+            decorated.add(getBaseCharacter(c));
+        }
+        return decorated;
     }
 
     /**
@@ -326,8 +363,10 @@ public class DecoratorManager {
      */
     public void removeAllDecorators(AbstractCharacter character) {
         AbstractCharacter base = getBaseCharacter(character);
-        activeDecorators.remove(base);
-        activeDecorators.remove(character);
+        activeDecorators.computeIfPresent(base, (k, decorators) -> {
+            base.setModifiers(null);
+            return null;
+        });
 
         originalCharacters.remove(character);
         originalCharacters.remove(base);
@@ -343,8 +382,6 @@ public class DecoratorManager {
     public Map<String, List<String>> getActiveDecoratorInfo() {
         Map<String, List<String>> info = new HashMap<>();
 
-        GameWorld world = GameWorld.getInstance();
-
         // Check players
         for (PlayerCharacter player : world.getPlayers()) {
             List<CharacterDecorator> decorators = getActiveDecorators(player);
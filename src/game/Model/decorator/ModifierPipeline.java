@@ -0,0 +1,268 @@
+package game.Model.decorator;
+
+import game.Model.characters.AbstractCharacter;
+import game.Model.engine.GameClock;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * What the decorators of a character do to its power, evasion and the damage it takes, compiled
+ * into one flat list of stages.
+ *
+ * <p>
+ * Every decorator adds its stages through {@link CharacterDecorator#contributeModifiers(Builder)}
+ * when the {@link DecoratorManager} compiles the pipeline, which it does only when a decorator is
+ * applied or expires. A stage is an opcode, a number and the game time it expires at, kept in
+ * parallel arrays; {@link #power(AbstractCharacter, int)}, {@link #evasion(double)} and the damage
+ * methods are one pass over them that allocates nothing, however many decorators there are.
+ * A stage whose decorator expired since the last compile is skipped. Only the stateful checks of
+ * a hit, like a shield blocking the first one, call back into their decorator.
+ * </p>
+ *
+ * <p>
+ * A pipeline never changes once compiled; a new one replaces it on the character. The only
+ * exception is a copy made by {@link #forSimulation()}, which counts down the hits its gates
+ * still block instead of asking the decorators, and belongs to one simulated character.
+ * </p>
+ */
+public final class ModifierPipeline {
+
+    /** returned by {@link #hitDamage(int)} when a decorator blocked the hit */
+    public static final int BLOCKED = -1;
+
+    private static final byte POWER_MUL = 0;
+    private static final byte POWER_RAGE = 1;
+    private static final byte EVASION_ADD = 2;
+    private static final byte DAMAGE_MUL = 3;
+    private static final byte HIT_GATE = 4;
+
+    private final GameClock clock;
+    private final byte[] ops;
+    private final double[] values;
+    // RAGE: the health at which there is no bonus; HIT_GATE: 1 if the gate opens when the owner strikes
+    private final int[] extras;
+    private final long[] expiresAt;
+    // HIT_GATE: the decorator asked whether it blocks the hit
+    private final CharacterDecorator[] gates;
+    // HIT_GATE of a simulation copy: how many hits it blocked at the start, and still blocks
+    private final int[] blocksAtStart;
+    private final int[] blocksLeft;
+
+    private ModifierPipeline(GameClock clock, Builder b) {
+        this.clock = clock;
+        this.ops = Arrays.copyOf(b.ops, b.size);
+        this.values = Arrays.copyOf(b.values, b.size);
+        this.extras = Arrays.copyOf(b.extras, b.size);
+        this.expiresAt = Arrays.copyOf(b.expiresAt, b.size);
+        this.gates = Arrays.copyOf(b.gates, b.size);
+        this.blocksAtStart = null;
+        this.blocksLeft = null;
+    }
+
+    // a simulation copy of {@code p}, sharing the stages
+    private ModifierPipeline(ModifierPipeline p, int[] blocksAtStart) {
+        this.clock = p.clock;
+        this.ops = p.ops;
+        this.values = p.values;
+        this.extras = p.extras;
+        this.expiresAt = p.expiresAt;
+        this.gates = null;
+        this.blocksAtStart = blocksAtStart;
+        this.blocksLeft = blocksAtStart.clone();
+    }
+
+    /**
+     * Compiles the decorators of {@code base}, in the order they were applied.
+     *
+     * @return the pipeline, or null if none of them modifies anything
+     */
+    public static ModifierPipeline compile(AbstractCharacter base, List<CharacterDecorator> decorators) {
+        Builder b = new Builder();
+        GameClock clock = null;
+        for (CharacterDecorator d : decorators) {
+            if (!d.isActive()) continue;
+            b.current = d;
+            d.contributeModifiers(b);
+            clock = d.clock();
+        }
+        return b.size == 0 ? null : new ModifierPipeline(clock, b);
+    }
+
+    /**
+     * returns {@code base} power of {@code owner} with every power stage applied
+     */
+    public int power(AbstractCharacter owner, int base) {
+        long now = clock.millis();
+        double multiplier = 1.0;
+        for (int i = 0; i < ops.length; i++) {
+            if (now >= expiresAt[i]) continue;
+            switch (ops[i]) {
+                case POWER_MUL -> multiplier *= values[i];
+                case POWER_RAGE -> {
+                    double healthPercent = (double) owner.getHealth() / extras[i];
+                    multiplier *= 1.0 + values[i] * (1.0 - healthPercent);
+                }
+                default -> { }
+            }
+        }
+        return (int) (base * multiplier);
+    }
+
+    /**
+     * returns the {@code base} evasion chance with every evasion stage applied, between 0 and 1
+     */
+    public double evasion(double base) {
+        long now = clock.millis();
+        double evasion = base;
+        for (int i = 0; i < ops.length; i++) {
+            if (now < expiresAt[i] && ops[i] == EVASION_ADD) {
+                evasion += values[i];
+            }
+        }
+        return Math.max(0.0, Math.min(1.0, evasion));
+    }
+
+    /**
+     * returns the damage a hit of {@code amount} does, or {@link #BLOCKED} if a decorator blocked it
+     */
+    public int hitDamage(int amount) {
+        long now = clock.millis();
+        double factor = 1.0;
+        for (int i = 0; i < ops.length; i++) {
+            if (now >= expiresAt[i]) continue;
+            if (ops[i] == HIT_GATE) {
+                if (blocksLeft == null ? gates[i].blocksHit() : blocksLeft[i]-- > 0) return BLOCKED;
+            } else if (ops[i] == DAMAGE_MUL) {
+                factor *= values[i];
+            }
+        }
+        return (int) (amount * factor);
+    }
+
+    /**
+     * The owner struck: every gate added with {@link Builder#gateHitsUntilStrike()} opens. A live
+     * pipeline tells the decorator ({@link CharacterDecorator#ownerStruck()}), a simulation copy
+     * stops blocking with that gate.
+     */
+    public void struck() {
+        long now = clock.millis();
+        for (int i = 0; i < ops.length; i++) {
+            if (now < expiresAt[i] && ops[i] == HIT_GATE && extras[i] == 1) {
+                if (blocksLeft == null) {
+                    gates[i].ownerStruck();
+                } else {
+                    blocksLeft[i] = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * returns the damage of {@code amount} direct damage, like a magic wave, which no decorator blocks
+     */
+    public int directDamage(int amount) {
+        long now = clock.millis();
+        double factor = 1.0;
+        for (int i = 0; i < ops.length; i++) {
+            if (now < expiresAt[i] && ops[i] == DAMAGE_MUL) {
+                factor *= values[i];
+            }
+        }
+        return (int) (amount * factor);
+    }
+
+    /**
+     * Returns a pipeline for a simulated copy of the character: the same stages, but a gate blocks
+     * as many hits as its decorator would block right now ({@link CharacterDecorator#hitsToBlock()})
+     * and never calls back into it, so the live decorators are neither changed nor shared with the
+     * threads of the simulation. Every call starts the counts over, one copy per simulated fight.
+     */
+    public ModifierPipeline forSimulation() {
+        if (blocksAtStart != null) {
+            return new ModifierPipeline(this, blocksAtStart);
+        }
+        int[] blocks = new int[ops.length];
+        boolean gated = false;
+        for (int i = 0; i < ops.length; i++) {
+            if (ops[i] == HIT_GATE) {
+                blocks[i] = gates[i].hitsToBlock();
+                gated = true;
+            }
+        }
+        return gated ? new ModifierPipeline(this, blocks) : this;
+    }
+
+    /** how many stages there are */
+    public int size() { return ops.length; }
+
+    @Override
+    public String toString() {
+        return "ModifierPipeline[stages=" + ops.length + "]";
+    }
+
+    /**
+     * Collects the stages of the decorators during {@link #compile(AbstractCharacter, List)}.
+     * A stage expires with the decorator that added it.
+     */
+    public static final class Builder {
+        private byte[] ops = new byte[4];
+        private double[] values = new double[4];
+        private int[] extras = new int[4];
+        private long[] expiresAt = new long[4];
+        private CharacterDecorator[] gates = new CharacterDecorator[4];
+        private int size;
+        private CharacterDecorator current;
+
+        private Builder() {
+        }
+
+        /** power is multiplied by {@code factor} */
+        public Builder multiplyPower(double factor) {
+            return add(POWER_MUL, factor, 0);
+        }
+
+        /** power grows by up to {@code maxBonus} as health drops from {@code fullHealth} to 0 */
+        public Builder rage(double maxBonus, int fullHealth) {
+            return add(POWER_RAGE, maxBonus, fullHealth);
+        }
+
+        /** {@code delta} is added to the evasion chance */
+        public Builder addEvasion(double delta) {
+            return add(EVASION_ADD, delta, 0);
+        }
+
+        /** all damage taken is multiplied by {@code factor} */
+        public Builder multiplyDamage(double factor) {
+            return add(DAMAGE_MUL, factor, 0);
+        }
+
+        /** the decorator is asked with {@link CharacterDecorator#blocksHit()} whether it blocks a hit */
+        public Builder gateHits() {
+            return add(HIT_GATE, 0, 0);
+        }
+
+        /** like {@link #gateHits()}, and {@link CharacterDecorator#ownerStruck()} is called when the owner strikes */
+        public Builder gateHitsUntilStrike() {
+            return add(HIT_GATE, 0, 1);
+        }
+
+        private Builder add(byte op, double value, int extra) {
+            if (size == ops.length) {
+                int n = size * 2;
+                ops = Arrays.copyOf(ops, n);
+                values = Arrays.copyOf(values, n);
+                extras = Arrays.copyOf(extras, n);
+                expiresAt = Arrays.copyOf(expiresAt, n);
+                gates = Arrays.copyOf(gates, n);
+            }
+            ops[size] = op;
+            values[size] = value;
+            extras[size] = extra;
+            expiresAt[size] = current.expiresAt();
+            gates[size] = op == HIT_GATE ? current : null;
+            size++;
+            return this;
+        }
+    }
+}
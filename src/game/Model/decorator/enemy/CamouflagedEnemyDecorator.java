@@ -2,6 +2,7 @@ package game.Model.decorator.enemy;
 import game.Model.characters.Enemy;
 import game.Model.combat.Combatant;
 import game.Model.decorator.CharacterDecorator;
+import game.Model.decorator.ModifierPipeline;
 import game.Util.GameLogger;
 
 /**
@@ -10,7 +11,8 @@ import game.Util.GameLogger;
  */
 public class CamouflagedEnemyDecorator extends CharacterDecorator {
 
-    public boolean hasAttacked = false;
+    // set by whichever thread fights the enemy, read by the one hitting it
+    public volatile boolean hasAttacked = false;
 
     public CamouflagedEnemyDecorator(Enemy enemy, int durationSeconds) {
         super(enemy, durationSeconds);
@@ -20,19 +22,37 @@ public class CamouflagedEnemyDecorator extends CharacterDecorator {
     @Override
     public void attack(Combatant target) {
         super.attack(target);
-        hasAttacked = true;
-        GameLogger.getInstance().log("Camouflage broken - enemy revealed!");
+        ownerStruck();
     }
 
     @Override
-    public void receiveDamage(int amount, Combatant source) {
-        if (!isActive() || hasAttacked) {
-            super.receiveDamage(amount, source);
-            return;
+    protected void contributeModifiers(ModifierPipeline.Builder modifiers) {
+        // the enemy itself fights, not this wrapper, so the pipeline tells us when it strikes
+        modifiers.gateHitsUntilStrike();
+    }
+
+    @Override
+    protected void ownerStruck() {
+        if (!hasAttacked) {
+            hasAttacked = true;
+            GameLogger.getInstance().log("Camouflage broken - enemy revealed!");
+        }
+    }
+
+    @Override
+    protected boolean blocksHit() {
+        if (hasAttacked) {
+            return false;
         }
 
         // While camouflaged and hasn't attacked, cannot be damaged
         GameLogger.getInstance().log("Attack missed - enemy is camouflaged!");
+        return true;
+    }
+
+    @Override
+    protected int hitsToBlock() {
+        return hasAttacked ? 0 : Integer.MAX_VALUE;
     }
 
     @Override
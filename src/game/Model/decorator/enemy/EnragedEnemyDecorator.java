@@ -3,6 +3,7 @@ package game.Model.decorator.enemy;
 import game.Model.characters.Enemy;
 import game.Model.combat.Combatant;
 import game.Model.decorator.CharacterDecorator;
+import game.Model.decorator.ModifierPipeline;
 import game.Util.GameLogger;
 
 /**
@@ -19,16 +20,9 @@ public class EnragedEnemyDecorator extends CharacterDecorator {
     }
 
     @Override
-    public int getPower() {
-        if (!isActive()) {
-            return super.getPower();
-        }
-
-        // Calculate rage bonus based on missing health
-        double healthPercent = (double)getHealth() / 50.0; // 50 is enemy default max health
-        double rageMultiplier = 1.0 + (MAX_RAGE_BONUS * (1.0 - healthPercent));
-
-        return (int)(super.getPower() * rageMultiplier);
+    protected void contributeModifiers(ModifierPipeline.Builder modifiers) {
+        // Rage bonus grows with missing health
+        modifiers.rage(MAX_RAGE_BONUS, 50); // 50 is enemy default max health
     }
 
     @Override
@@ -35,16 +35,14 @@ public class ExplodingEnemyDecorator extends CharacterDecorator {
     private void explode() {
         GameLogger.getInstance().log(((Enemy)getBaseCharacter()).enemyDiscription() + " explodes!");
 
-        GameWorld world = GameWorld.getInstance();
+        GameWorld world = ((Enemy) getBaseCharacter()).getWorld();
         Position myPos = getPosition();
         int explosionDamage = (int)(50 * EXPLOSION_DAMAGE_PERCENT); // 50 is enemy default health
 
         // Damage all players within range
-        for (PlayerCharacter player : world.getPlayers()) {
-            if (myPos.distanceTo(player.getPosition()) <= EXPLOSION_RANGE) {
-                player.takeDamage(explosionDamage);
-                GameLogger.getInstance().log("Explosion dealt " + explosionDamage + " damage to " + player.getName());
-            }
+        for (PlayerCharacter player : world.getMap().queryRadius(myPos, EXPLOSION_RANGE, PlayerCharacter.class)) {
+            player.takeDamage(explosionDamage);
+            GameLogger.getInstance().log("Explosion dealt " + explosionDamage + " damage to " + player.getName());
         }
     }
 
@@ -2,12 +2,13 @@ package game.Model.decorator.enemy;
 
 import game.Model.characters.Enemy;
 import game.Model.combat.Combatant;
+import game.Model.core.RandomSource;
 import game.Model.decorator.CharacterDecorator;
 import game.Model.engine.GameWorld;
 import game.Model.map.Position;
 import game.Util.GameLogger;
+import java.util.random.RandomGenerator;
 
-import java.util.Random;
 
 /**
  * Decorator that teleports enemy when health is low.
@@ -41,27 +42,22 @@ public class TeleportingEnemyDecorator extends CharacterDecorator {
     }
 
     private void teleportToRandomPosition() {
-        GameWorld world = GameWorld.getInstance();
+        GameWorld world = ((Enemy) getBaseCharacter()).getWorld();
         game.Model.map.GameMap map = world.getMap();
-        Random rand = new Random();
+        RandomGenerator rand = RandomSource.current();
 
-        // Try to find a free position
-        for (int attempts = 0; attempts < 50; attempts++) {
-            int row = rand.nextInt(map.getNumRows());
-            int col = rand.nextInt(map.getNumCols());
-            Position newPos = new Position(row, col);
+        Position newPos = map.randomFreePosition(rand);
+        if (newPos == null) {
+            return;
+        }
 
-            if (map.isPositionFree(newPos)) {
-                Position oldPos = getPosition();
-                map.removeEntity(this);
-                setPosition(newPos);
-                map.addEntity(newPos, this);
+        Position oldPos = getPosition();
+        map.removeEntity(this);
+        setPosition(newPos);
+        map.addEntity(newPos, this);
 
-                GameLogger.getInstance().log(((Enemy)getBaseCharacter()).enemyDiscription() +
-                        " teleported from " + oldPos + " to " + newPos);
-                break;
-            }
-        }
+        GameLogger.getInstance().log(((Enemy)getBaseCharacter()).enemyDiscription() +
+                " teleported from " + oldPos + " to " + newPos);
     }
 
     @Override
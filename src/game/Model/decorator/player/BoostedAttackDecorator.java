@@ -2,6 +2,7 @@ package game.Model.decorator.player;
 import game.Model.characters.PlayerCharacter;
 import game.Model.combat.Combatant;
 import game.Model.decorator.CharacterDecorator;
+import game.Model.decorator.ModifierPipeline;
 import game.Util.GameLogger;
 
 /**
@@ -18,12 +19,9 @@ public class BoostedAttackDecorator extends CharacterDecorator {
     }
 
     @Override
-    public int getPower() {
-        if (!isActive()) {
-            return super.getPower();
-        }
+    protected void contributeModifiers(ModifierPipeline.Builder modifiers) {
         // 50% power boost
-        return (int)(super.getPower() * DAMAGE_MULTIPLIER);
+        modifiers.multiplyPower(DAMAGE_MULTIPLIER);
     }
 
     @Override
@@ -2,6 +2,7 @@ package game.Model.decorator.player;
 
 import game.Model.characters.PlayerCharacter;
 import game.Model.decorator.CharacterDecorator;
+import game.Model.decorator.ModifierPipeline;
 import game.Util.GameLogger;
 
 /**
@@ -18,17 +19,11 @@ public class MagicAmplifierDecorator extends CharacterDecorator {
     }
 
     @Override
-    public int getPower() {
-        if (!isActive()) {
-            return super.getPower();
-        }
-
-        // Check if the base character is a magic user (has an element)
+    protected void contributeModifiers(ModifierPipeline.Builder modifiers) {
+        // Only a magic user (has an element) is amplified
         if (getElement() != null) {
-            return (int)(super.getPower() * MAGIC_MULTIPLIER);
+            modifiers.multiplyPower(MAGIC_MULTIPLIER);
         }
-
-        return super.getPower();
     }
 
     @Override
@@ -17,7 +17,7 @@ public class RegenerationDecorator extends CharacterDecorator {
 
     public RegenerationDecorator(PlayerCharacter player, int durationSeconds) {
         super(player, durationSeconds);
-        this.lastHealTime = System.currentTimeMillis();
+        this.lastHealTime = now();
         GameLogger.getInstance().log(player.getName() + " gained Regeneration!");
     }
 
@@ -32,7 +32,7 @@ public class RegenerationDecorator extends CharacterDecorator {
             return;
         }
 
-        long currentTime = System.currentTimeMillis();
+        long currentTime = now();
         if (currentTime - lastHealTime >= HEAL_INTERVAL) {
             int healAmount = (int)(100 * HEAL_PERCENTAGE); // Assuming 100 is max health
             heal(healAmount);
@@ -2,8 +2,8 @@ package game.Model.decorator.player;
 
 
 import game.Model.characters.PlayerCharacter;
-import game.Model.combat.Combatant;
 import game.Model.decorator.CharacterDecorator;
+import game.Model.decorator.ModifierPipeline;
 import game.Util.GameLogger;
 
 /**
@@ -19,46 +19,37 @@ public class ShieldedPlayerDecorator extends CharacterDecorator {
 
     public ShieldedPlayerDecorator(PlayerCharacter player, int durationSeconds) {
         super(player, durationSeconds);
-        this.lastResetTime = System.currentTimeMillis();
+        this.lastResetTime = now();
         GameLogger.getInstance().log(player.getName() + " gained Shield!");
     }
 
     @Override
-    public void receiveDamage(int amount, Combatant source) {
-        if (!isActive()) {
-            super.receiveDamage(amount, source);
-            return;
-        }
+    protected void contributeModifiers(ModifierPipeline.Builder modifiers) {
+        // Block the first hit, then reduce all damage (also direct damage like magic waves) by 50%
+        modifiers.gateHits().multiplyDamage(DAMAGE_REDUCTION);
+    }
 
+    @Override
+    protected boolean blocksHit() {
         // Reset first hit block every interval
-        if (System.currentTimeMillis() - lastResetTime > RESET_INTERVAL) {
+        if (now() - lastResetTime > RESET_INTERVAL) {
             firstHitBlocked = false;
-            lastResetTime = System.currentTimeMillis();
+            lastResetTime = now();
         }
 
         // Block first hit completely
         if (!firstHitBlocked) {
             firstHitBlocked = true;
             GameLogger.getInstance().log("Shield blocked all damage!");
-            return;
+            return true;
         }
-
-        // Reduce subsequent damage by 50%
-        int reducedDamage = (int)(amount * DAMAGE_REDUCTION);
-        GameLogger.getInstance().log("Shield reduced damage from " + amount + " to " + reducedDamage);
-        super.receiveDamage(reducedDamage, source);
+        return false;
     }
 
     @Override
-    public void takeDamage(int dmg) {
-        if (!isActive()) {
-            super.takeDamage(dmg);
-            return;
-        }
-
-        // For direct damage (like magic waves), always apply reduction
-        int reducedDamage = (int)(dmg * DAMAGE_REDUCTION);
-        super.takeDamage(reducedDamage);
+    protected int hitsToBlock() {
+        boolean reset = now() - lastResetTime > RESET_INTERVAL;
+        return reset || !firstHitBlocked ? 1 : 0;
     }
 
     @Override
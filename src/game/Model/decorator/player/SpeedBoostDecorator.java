@@ -31,7 +31,7 @@ public class SpeedBoostDecorator extends CharacterDecorator {
             return false;
         }
 
-        long currentTime = System.currentTimeMillis();
+        long currentTime = now();
         if (currentTime - lastTurnTime > TURN_DURATION) {
             extraActionUsed = false;
             lastTurnTime = currentTime;
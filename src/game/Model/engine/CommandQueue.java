@@ -0,0 +1,185 @@
+package game.Model.engine;
+
+import game.Controller.PlayerCommand;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Applies the player commands of one world in order, one at a time.
+ *
+ * <p>
+ * Submitting never blocks and never drops a command: it is queued and the caller gets a future
+ * that completes once the command was applied. Only one thread drains the queue at any time, so
+ * the commands of a world run one after another, in the order they were submitted, inside the
+ * world and with the world lock held. The lock is waited for, not tried, so a command is never
+ * lost because another thread happened to hold it. Callbacks chained on the future run on the
+ * simulation thread unless an async variant is used.
+ * </p>
+ *
+ * <p>
+ * The queue depth is the number of commands submitted but not yet applied; the wait is the time
+ * from submit until a command started, which is the input latency a player feels.
+ * </p>
+ */
+public class CommandQueue {
+
+    private final GameWorld world;
+    private final ReentrantLock worldLock;
+    private final Executor executor;
+
+    private final ConcurrentLinkedQueue<Queued<?>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicInteger maxDepth = new AtomicInteger();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    private static final class Queued<T> {
+        private final PlayerCommand<T> command;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final long submittedNanos = System.nanoTime();
+
+        private Queued(PlayerCommand<T> command) {
+            this.command = command;
+        }
+    }
+
+    /**
+     * @param executor runs the simulation; one drain at a time, so a pool shared with other work is fine
+     */
+    CommandQueue(GameWorld world, ReentrantLock worldLock, Executor executor) {
+        this.world = world;
+        this.worldLock = worldLock;
+        this.executor = executor;
+    }
+
+    /**
+     * queues a command, the future completes with its result once it was applied
+     */
+    public <T> CompletableFuture<T> submit(PlayerCommand<T> command) {
+        Queued<T> queued = new Queued<>(command);
+        submitted.increment();
+        queue.add(queued);
+        maxDepth.accumulateAndGet(depth.incrementAndGet(), Math::max);
+
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                failAll(e);
+            }
+        }
+        return queued.future;
+    }
+
+    private void drain() {
+        do {
+            try {
+                for (Queued<?> q; (q = queue.poll()) != null; ) {
+                    depth.decrementAndGet();
+                    apply(q);
+                }
+            } finally {
+                // cleared even if something escapes, or no later command would ever be applied
+                draining.set(false);
+            }
+            // a command queued after the last poll but before the flag was cleared is drained here
+        } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    private <T> void apply(Queued<T> q) {
+        long wait = System.nanoTime() - q.submittedNanos;
+        started.increment();
+        totalWaitNanos.add(wait);
+        maxWaitNanos.accumulateAndGet(wait, Math::max);
+
+        Object[] result = new Object[1];
+        try {
+            world.runInWorld(() -> {
+                worldLock.lock();
+                try {
+                    result[0] = q.command.apply(world);
+                } finally {
+                    worldLock.unlock();
+                }
+            });
+        } catch (Throwable e) {
+            // an Error of one command fails only that command
+            failed.increment();
+            world.getLogger().log("Command " + q.command + " failed: " + e.getMessage());
+            q.future.completeExceptionally(e);
+            return;
+        }
+        applied.increment();
+        @SuppressWarnings("unchecked")
+        T value = (T) result[0];
+        q.future.complete(value);
+    }
+
+    private void failAll(RuntimeException cause) {
+        for (Queued<?> q; (q = queue.poll()) != null; ) {
+            depth.decrementAndGet();
+            failed.increment();
+            q.future.completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * returns how many commands are waiting right now
+     */
+    public int getQueueDepth() {
+        return depth.get();
+    }
+
+    /**
+     * returns the deepest the queue has been
+     */
+    public int getMaxQueueDepth() {
+        return maxDepth.get();
+    }
+
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    public long getAppliedCount() {
+        return applied.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * returns the average time a command waited before it was applied
+     */
+    public long getMeanWaitNanos() {
+        long n = started.sum();
+        return n == 0 ? 0 : totalWaitNanos.sum() / n;
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CommandQueue[depth=%d, maxDepth=%d, applied=%d, failed=%d, meanWait=%.3fms, maxWait=%.3fms]",
+                getQueueDepth(), getMaxQueueDepth(), getAppliedCount(), getFailedCount(),
+                getMeanWaitNanos() / 1e6, getMaxWaitNanos() / 1e6);
+    }
+}
@@ -1,10 +1,12 @@
 package game.Model.engine;
 import game.Model.characters.Enemy;
 import game.Model.Factory.EnemyFactory;
+import game.Model.core.RandomSource;
 import game.Model.decorator.DecoratorManager;
 import game.Util.GameLogger;
 
-import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.random.RandomGenerator;
 
 
 /**
@@ -22,24 +24,41 @@ public class EnemyTask implements Runnable {
      */
     public EnemyTask(Enemy enemy) {
         this.enemy = enemy;
-        this.world = GameWorld.getInstance();
+        this.world = enemy.getWorld();
     }
 
     @Override
     public void run() {
+        world.runInWorld(this::act);
+    }
+
+    private void act() {
         try {
             if (!world.isRunning() || enemy.isDead()) {
                 return;
             }
 
-            // Execute enemy action
-            enemy.run();
-
-            // Check if enemy died during its action
-            if (enemy.isDead()) {
-                handleEnemyDeath();
+            // In virtual thread mode only a bounded number of enemies touch the map at once
+            Semaphore permits = world.getMapMutators();
+            if (permits != null) {
+                permits.acquire();
             }
-
+            try {
+                // Execute enemy action
+                enemy.run();
+                world.recordEnemyAction();
+
+                // Check if enemy died during its action
+                if (enemy.isDead()) {
+                    handleEnemyDeath();
+                }
+            } finally {
+                if (permits != null) {
+                    permits.release();
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
         } catch (Exception ex) {
             GameLogger.getInstance().log("Error in enemy task: " + ex.getMessage());
             ex.printStackTrace();
@@ -78,7 +97,7 @@ public class EnemyTask implements Runnable {
             Enemy newEnemy = EnemyFactory.createEnemy();
             if (newEnemy != null) {
                 // 30% chance to spawn with a decorator
-                Random rand = new Random();
+                RandomGenerator rand = RandomSource.current();
                 if (rand.nextDouble() < 0.3) {
                     DecoratorManager manager = DecoratorManager.getInstance();
                     newEnemy = manager.applyRandomEnemyDecorator(newEnemy, 45); // 45 seconds
@@ -0,0 +1,20 @@
+package game.Model.engine;
+
+/**
+ * The time a world runs on.
+ *
+ * <p>
+ * Everything in the game that waits for time to pass - the enemy cadence of the tick engine,
+ * the magic wave, the length of the decorators - reads the clock of its world instead of
+ * {@link System#currentTimeMillis()}. A {@link WallClock} follows real time; a
+ * {@link VirtualClock} only moves when the world advances it, so a long game can be played
+ * in as little time as the CPU needs.
+ * </p>
+ */
+public interface GameClock {
+
+    /**
+     * returns the current time in milliseconds
+     */
+    long millis();
+}
@@ -1,13 +1,23 @@
 package game.Model.engine;
 
+import game.Controller.GameEvent;
 import game.Controller.GameObserver;
+import game.Controller.PlayerCommand;
 import game.Model.Factory.EnemyFactory;
+import game.Model.Factory.EntityPools;
 import game.Model.Factory.ItemFactory;
 import game.Model.Factory.PlayerFactory;
+import game.Model.characters.AbstractCharacter;
 import game.Model.characters.Enemy;
 import game.Model.characters.PlayerCharacter;
+import game.Model.characters.StatStore;
+import game.Model.combat.BatchCombatResolver;
 import game.Model.combat.BattleResult;
-import game.Model.combat.CombatSystem;
+import game.Model.combat.Combatant;
+import game.Model.combat.CombatEngine;
+import game.Model.combat.Engagement;
+import game.Model.core.ConcurrentEntityList;
+import game.Model.core.RandomSource;
 import game.Model.decorator.DecoratorManager;
 import game.Model.items.GameItem;
 import game.Model.items.Potion;
@@ -22,13 +32,18 @@ import game.Model.characters.Dragon;
 import java.io.*;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 import game.Model.memento.GameMemento;
 import game.Model.memento.PlayerSnapshot;
@@ -39,12 +54,20 @@ import game.Model.memento.ItemSnapshot;
  * Represents the entire game state using Singleton pattern.
  * This ensures only one game board exists throughout the application.
  *
-
+ * <p>
+ * A process can also host many independent worlds made with {@link #create()}, each with its
+ * own map, enemies, decorators and logger, all sharing one bounded set of worker threads.
+ * {@link #getInstance()} returns the world the current thread works for (see
+ * {@link #runInWorld(Runnable)}), and the default world otherwise. The enemy tasks, ticks and
+ * world events of a world always run inside that world.
+ * </p>
  */
 public class GameWorld {
     // Volatile to ensure thread-safe singleton
     private static volatile GameWorld instance;
     private static final Object lock = new Object();
+    private static final ThreadLocal<GameWorld> current = new ThreadLocal<>();
+    private static final AtomicInteger nextId = new AtomicInteger();
 
     // Thread pool for enemies - will be updated to meet assignment requirements
     private ExecutorService enemyThreadPool;
@@ -54,33 +77,209 @@ public class GameWorld {
 
     private List<PlayerCharacter> players;
     private PlayerCharacter player;
-    private List<Enemy> enemies;
-    private List<GameItem> items;
+    private ConcurrentEntityList<Enemy> enemies;
+    private ConcurrentEntityList<GameItem> items;
     private GameMap map;
 
     private final List<BattleResult> battleResults = new ArrayList<>();
+    private final BatchCombatResolver batchResolver =
+            new BatchCombatResolver(ForkJoinPool.commonPool(), LOCKED_ROUND_LIMIT);
     private final List<GameObserver> observers = new CopyOnWriteArrayList<>();
 
     public enum Action {COMBAT, PICKUP, MOVE}
 
+    /**
+     * How the enemies are driven.
+     * <ul>
+     *   <li>{@code SCHEDULED} - every enemy reschedules itself after a random delay.</li>
+     *   <li>{@code TICK} - a {@link TickEngine} advances all due enemies in batches every tick.</li>
+     *   <li>{@code HOSTED} - like {@code TICK}, but the ticks are driven from outside through
+     *   {@link #tick(long, long)}, for example by a session host running many worlds.</li>
+     * </ul>
+     */
+    public enum EngineMode { SCHEDULED, TICK, HOSTED }
+
+    private EngineMode engineMode = EngineMode.SCHEDULED;
+    private TickEngine tickEngine;
+
+    private static final long MAGIC_WAVE_PERIOD_MS = 40_000;
+    private static final long DECORATOR_CLEANUP_MS = 1_000;
+    // a fight played while holding worldLock is called off after this many rounds, so nobody
+    // waits for the lock long; ordinary fights are over in a few dozen rounds
+    private static final int LOCKED_ROUND_LIMIT = 100;
+
+    private GameClock clock = new WallClock();
+    // when the next magic wave and decorator cleanup are due, used on a virtual clock only
+    private long nextWaveMs;
+    private long nextCleanupMs;
+
+    /**
+     * Which threads run the enemy tasks.
+     * <ul>
+     *   <li>{@code PLATFORM} - a fixed pool of platform threads sized from the board (3%, at most 10).</li>
+     *   <li>{@code VIRTUAL} - one virtual thread per enemy task, a semaphore bounds how many
+     *   enemies mutate the map at once.</li>
+     * </ul>
+     */
+    public enum ExecutorMode { PLATFORM, VIRTUAL }
+
+    private ExecutorMode executorMode = ExecutorMode.PLATFORM;
+    private Semaphore mapMutators;
+    private final LongAdder enemyActions = new LongAdder();
+
     private Position lastActionPos;
     private Action lastAction;
 
     private ScheduledExecutorService enemyScheduler;
     private ScheduledExecutorService worldEventScheduler;
     private AtomicBoolean isRunning;
-    private final Random random = new Random();
     private ReentrantLock worldLock = new ReentrantLock(true);
     private final Deque<GameMemento> history = new ArrayDeque<>();
+
+    private final int id;
+    private final boolean sharedExecutors;
+    private final GameLogger logger;
+    // the root every thread working for this world splits its random numbers from
+    private final RandomSource random;
+    private DecoratorManager decoratorManager;
+    private ScheduledFuture<?> tickFuture;
+    // set while a tick handed to the shared enemy pool runs
+    private final AtomicBoolean tickRunning = new AtomicBoolean();
+    private ScheduledFuture<?> waveFuture;
+    private final NotificationBus notificationBus;
+    private CommandQueue commandQueue;
+    private ExecutorService simulationThread;
+
     /**
      * Private constructor for Singleton pattern
      */
     private GameWorld() {
+        this.id = nextId.getAndIncrement();
+        this.sharedExecutors = false;
+        this.logger = GameLogger.getInstance();
+        this.random = RandomSource.getDefault();
         this.isRunning = new AtomicBoolean(false);
         this.threadPoolSize = calculateThreadPoolSize();
+        this.notificationBus = new NotificationBus(this::deliverToObservers, SharedExecutors.scheduler());
         initializeExecutors();
     }
 
+    private GameWorld(int id, GameLogger logger) {
+        this.id = id;
+        this.sharedExecutors = true;
+        this.logger = logger;
+        this.random = new RandomSource();
+        this.isRunning = new AtomicBoolean(false);
+        this.threadPoolSize = SharedExecutors.POOL_SIZE;
+        this.enemyThreadPool = SharedExecutors.enemyPool(executorMode);
+        this.enemyScheduler = SharedExecutors.scheduler();
+        this.worldEventScheduler = SharedExecutors.scheduler();
+        this.notificationBus = new NotificationBus(this::deliverToObservers, SharedExecutors.scheduler());
+    }
+
+    /**
+     * Creates a new independent world that runs on the shared worker threads and logs to
+     * its own file, {@code game_events-<id>.log}.
+     */
+    public static GameWorld create() {
+        int id = nextId.getAndIncrement();
+        return new GameWorld(id, new GameLogger("game_events-" + id + ".log"));
+    }
+
+    /**
+     * Creates a new independent world that runs on the shared worker threads.
+     *
+     * @param logger where the world logs, {@code new GameLogger(null)} drops every message
+     */
+    public static GameWorld create(GameLogger logger) {
+        return new GameWorld(nextId.getAndIncrement(), logger);
+    }
+
+    /**
+     * Runs the task with this world as the current world (and its logger and random source as the
+     * current ones) of the calling thread, so {@link #getInstance()} returns this world inside it.
+     * Calls from a host into a world made with {@link #create()} go through here.
+     */
+    public void runInWorld(Runnable task) {
+        GameWorld previousWorld = current.get();
+        GameLogger previousLogger = GameLogger.bind(logger);
+        RandomSource previousRandom = RandomSource.bind(random);
+        current.set(this);
+        try {
+            task.run();
+        } finally {
+            if (previousWorld == null) {
+                current.remove();
+            } else {
+                current.set(previousWorld);
+            }
+            GameLogger.bind(previousLogger);
+            RandomSource.bind(previousRandom);
+        }
+    }
+
+    /**
+     * returns a number that identifies the world in the process
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * returns the logger of this world
+     */
+    public GameLogger getLogger() {
+        return logger;
+    }
+
+    /**
+     * returns the random source of this world; the default world shares the default source
+     */
+    public RandomSource getRandom() {
+        return random;
+    }
+
+    /**
+     * returns the decorator manager of this world, created on first use
+     */
+    public synchronized DecoratorManager getDecoratorManager() {
+        if (decoratorManager == null) {
+            decoratorManager = new DecoratorManager(this);
+        }
+        return decoratorManager;
+    }
+
+    /**
+     * Returns the queue that applies the player commands of this world, created on first use.
+     * The default world gets a simulation thread of its own; the worlds made with
+     * {@link #create()} drain their queues on the shared pool, one drain per world at a time.
+     */
+    public synchronized CommandQueue getCommandQueue() {
+        if (commandQueue == null) {
+            Executor executor;
+            if (sharedExecutors) {
+                executor = SharedExecutors.enemyPool(ExecutorMode.PLATFORM);
+            } else {
+                simulationThread = Executors.newSingleThreadExecutor(r -> {
+                    Thread t = new Thread(r, "GameSimulation-" + id);
+                    t.setDaemon(true);
+                    return t;
+                });
+                executor = simulationThread;
+            }
+            commandQueue = new CommandQueue(this, worldLock, executor);
+        }
+        return commandQueue;
+    }
+
+    /**
+     * Queues a player command. It is applied on the simulation thread after every command
+     * submitted before it; the future completes with its result.
+     */
+    public <T> CompletableFuture<T> submit(PlayerCommand<T> command) {
+        return getCommandQueue().submit(command);
+    }
+
     /**
      * Calculate thread pool size based on board size
      * 3% of board size, minimum 1, maximum 10
@@ -100,11 +299,7 @@ public class GameWorld {
      */
     private void initializeExecutors() {
         // Fixed thread pool for enemies
-        this.enemyThreadPool = Executors.newFixedThreadPool(threadPoolSize, r -> {
-            Thread t = new Thread(r, "EnemyWorker-" + Thread.currentThread().getId());
-            t.setDaemon(true);
-            return t;
-        });
+        this.enemyThreadPool = createEnemyPool(threadPoolSize);
 
         // Scheduler for enemy tasks
         this.enemyScheduler = Executors.newScheduledThreadPool(1, r -> {
@@ -121,13 +316,31 @@ public class GameWorld {
         });
     }
 
+    /**
+     * Creates the executor for the enemy tasks according to the executor mode
+     */
+    private ExecutorService createEnemyPool(int size) {
+        if (executorMode == ExecutorMode.VIRTUAL) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("EnemyVirtual-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(size, r -> {
+            Thread t = new Thread(r, "EnemyWorker-" + Thread.currentThread().getId());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
     /**
      * Get the singleton instance of GameWorld
      * Thread-safe implementation using double-checked locking
      *
-     * @return The single instance of GameWorld
+     * @return The world the current thread runs in, or the single default instance of GameWorld
      */
     public static GameWorld getInstance() {
+        GameWorld bound = current.get();
+        if (bound != null) {
+            return bound;
+        }
         if (instance == null) {
             synchronized (lock) {
                 if (instance == null) {
@@ -153,8 +366,10 @@ public class GameWorld {
 
         this.players = new CopyOnWriteArrayList<>(players);
         this.player  = this.players.get(0);
-        this.enemies = new CopyOnWriteArrayList<>(enemies);
-        this.items = new CopyOnWriteArrayList<>(items);
+        this.enemies = new ConcurrentEntityList<>(enemies);
+        this.items = new ConcurrentEntityList<>(items);
+        this.players.forEach(p -> p.setWorldId(id));
+        this.enemies.forEach(e -> e.setWorldId(id));
     }
 
     /**
@@ -182,19 +397,15 @@ public class GameWorld {
 
         // Recalculate and update thread pool size based on actual map size
         int newPoolSize = calculateThreadPoolSize();
-        if (newPoolSize != threadPoolSize && enemyThreadPool != null) {
+        if (!sharedExecutors && executorMode == ExecutorMode.PLATFORM && newPoolSize != threadPoolSize && enemyThreadPool != null) {
             // Recreate thread pool with new size
             ExecutorService oldPool = enemyThreadPool;
-            enemyThreadPool = Executors.newFixedThreadPool(newPoolSize, r -> {
-                Thread t = new Thread(r, "EnemyWorker-" + Thread.currentThread().getId());
-                t.setDaemon(true);
-                return t;
-            });
+            enemyThreadPool = createEnemyPool(newPoolSize);
             oldPool.shutdown();
         }
 
-        // Initialize enemies on the map
-        initializeEnemies();
+        // Initialize enemies on the map, the factory creates them for the current world
+        runInWorld(this::initializeEnemies);
     }
 
     /**
@@ -205,7 +416,7 @@ public class GameWorld {
         int boardSize = map.getNumRows() * map.getNumCols();
         int initialEnemyCount = (int)(boardSize * 0.3); // 30% of positions might have enemies
 
-        Random rand = new Random();
+        RandomGenerator rand = RandomSource.current();
         int enemiesCreated = 0;
 
         for (int i = 0; i < initialEnemyCount; i++) {
@@ -219,37 +430,87 @@ public class GameWorld {
             }
         }
 
-        GameLogger.getInstance().log("Initialized " + enemiesCreated + " enemies on the map");
+        logger.log("Initialized " + enemiesCreated + " enemies on the map");
     }
 
 
+    // runs the next tick in the shared enemy pool unless the last one is still running
+    private void dispatchTick() {
+        if (!tickRunning.compareAndSet(false, true)) return;
+        try {
+            enemyThreadPool.execute(() -> {
+                try {
+                    runInWorld(() -> tickEngine.tick(clock.millis()));
+                } finally {
+                    tickRunning.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            tickRunning.set(false);
+        }
+    }
+
     public void gameEvent() {
         lastEvent = true;
 
-        if (random.nextBoolean()) {
+        if (RandomSource.current().nextBoolean()) {
             dmgMagicWave();
-            GameLogger.getInstance().log("A magic wave occurs that damaged everyone");
+            logger.log("A magic wave occurs that damaged everyone");
         } else {
             pwrMagicWave();
-            GameLogger.getInstance().log("A power wave occurs that raises everyone's power");
+            logger.log("A power wave occurs that raises everyone's power");
         }
 
         notifyObservers();
     }
 
     public void startGame() {
+        if (clock instanceof VirtualClock && engineMode != EngineMode.HOSTED) {
+            throw new IllegalStateException("A virtual clock needs the HOSTED engine mode");
+        }
         SoundPlayer.play("background_game_sound.wav");
-        GameLogger.getInstance().log("Game Started");
+        logger.log("Game Started");
         isRunning.set(true);
 
-        for (Enemy e : enemies) {
-            scheduleEnemy(e, 500 + random.nextInt(1001));
+        if (engineMode != EngineMode.SCHEDULED) {
+            // on shared threads the tick itself runs in the enemy pool, see below, and must not
+            // wait there for batches queued behind the work of other worlds
+            tickEngine = new TickEngine(sharedExecutors ? null : enemyThreadPool, TickEngine.DEFAULT_TICK_MS);
+            for (Enemy e : enemies) {
+                tickEngine.add(e, 500 + RandomSource.current().nextInt(1001));
+            }
+        }
+        if (engineMode == EngineMode.TICK && sharedExecutors) {
+            // the shared scheduler only hands the tick to the enemy pool, so a large world does
+            // not hold up the ticks of the others; a tick still running skips the next one
+            tickFuture = enemyScheduler.scheduleAtFixedRate(
+                    this::dispatchTick,
+                    0, tickEngine.getTickMs(),
+                    TimeUnit.MILLISECONDS
+            );
+        } else if (engineMode == EngineMode.TICK) {
+            // the enemy scheduler is idle in this mode, it becomes the simulation thread
+            tickFuture = enemyScheduler.scheduleAtFixedRate(
+                    () -> runInWorld(() -> tickEngine.tick(clock.millis())),
+                    0, tickEngine.getTickMs(),
+                    TimeUnit.MILLISECONDS
+            );
+        } else if (engineMode == EngineMode.SCHEDULED) {
+            for (Enemy e : enemies) {
+                scheduleEnemy(e, 500 + RandomSource.current().nextInt(1001));
+            }
         }
 
-        worldEventScheduler.scheduleAtFixedRate(
-                this::gameEvent,
-                40, 40,
-                TimeUnit.SECONDS
+        if (clock instanceof VirtualClock) {
+            // nothing runs on its own on a virtual clock, runFor fires the waves
+            nextWaveMs = clock.millis() + MAGIC_WAVE_PERIOD_MS;
+            nextCleanupMs = clock.millis() + DECORATOR_CLEANUP_MS;
+            return;
+        }
+        waveFuture = worldEventScheduler.scheduleAtFixedRate(
+                () -> runInWorld(this::gameEvent),
+                MAGIC_WAVE_PERIOD_MS, MAGIC_WAVE_PERIOD_MS,
+                TimeUnit.MILLISECONDS
         );
     }
 
@@ -266,16 +527,38 @@ public class GameWorld {
             if (!isRunning.get() || e.isDead()) return;
 
             // Submit enemy task to thread pool
-            enemyThreadPool.submit(new EnemyTask(e));
+            try {
+                enemyThreadPool.submit(new EnemyTask(e));
+            } catch (RejectedExecutionException ex) {
+                return;
+            }
 
             // Schedule next execution if enemy is still alive
             if (!e.isDead()) {
-                long nextDelay = 500 + random.nextInt(1001);
+                long nextDelay = 500 + RandomSource.current().nextInt(1001);
                 scheduleEnemy(e, nextDelay);
             }
         }, delayMs, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Gives a dead enemy to the pool once nothing in the world reaches it any more: it is off the
+     * map and out of the enemy list, and its driver has just dropped it. An enemy killed by a
+     * wave stays in the list and is not recycled.
+     */
+    void retire(Enemy enemy) {
+        if (!enemy.isDead() || enemies == null || map == null
+                || enemies.contains(enemy) || map.getEntity(enemy.getId()) != null) {
+            return;
+        }
+        DecoratorManager manager = decoratorManager;
+        if (manager != null && !manager.getActiveDecorators(enemy).isEmpty()) {
+            manager.removeAllDecorators(enemy);
+        }
+        // its death and removal events still name the enemy, it is reset only after they went out
+        afterEventsDelivered(() -> EntityPools.recycle(enemy));
+    }
+
     /**
      * Schedules a new enemy to start running.
      * Called by EnemyTask when an enemy dies and needs replacement.
@@ -284,18 +567,173 @@ public class GameWorld {
      */
     public void scheduleNewEnemy(Enemy enemy) {
         if (isRunning.get() && enemy != null) {
-            long initialDelay = 500 + random.nextInt(1001);
-            scheduleEnemy(enemy, initialDelay);
+            long initialDelay = 500 + RandomSource.current().nextInt(1001);
+            if (engineMode != EngineMode.SCHEDULED) {
+                tickEngine.add(enemy, initialDelay);
+            } else {
+                scheduleEnemy(enemy, initialDelay);
+            }
         }
     }
 
+    /**
+     * Chooses how the enemies are driven, must be called before {@link #startGame()}.
+     */
+    public void setEngineMode(EngineMode engineMode) {
+        if (isRunning.get()) {
+            throw new IllegalStateException("Engine mode must be set before the game starts");
+        }
+        this.engineMode = engineMode;
+    }
+
+    public EngineMode getEngineMode() {
+        return engineMode;
+    }
+
+    /**
+     * Chooses the clock of the world, must be called before {@link #startGame()}.
+     * A {@link VirtualClock} needs {@link EngineMode#HOSTED}: the world then only moves
+     * when {@link #runFor(long)} advances it.
+     */
+    public void setClock(GameClock clock) {
+        if (isRunning.get()) {
+            throw new IllegalStateException("The clock must be set before the game starts");
+        }
+        this.clock = clock;
+    }
+
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Plays {@code millis} of game time on the calling thread, as fast as the CPU allows.
+     * The virtual clock is moved one tick at a time; after every step the due enemies act,
+     * and the magic wave and the decorator cleanup run when their time has come.
+     */
+    public void runFor(long millis) {
+        if (!(clock instanceof VirtualClock virtual)) {
+            throw new IllegalStateException("runFor needs a VirtualClock, the world runs on " + clock);
+        }
+        if (engineMode != EngineMode.HOSTED || tickEngine == null) {
+            throw new IllegalStateException("runFor needs a started world in HOSTED mode");
+        }
+        long end = virtual.millis() + millis;
+        long step = tickEngine.getTickMs();
+        runInWorld(() -> {
+            while (isRunning.get() && virtual.millis() < end) {
+                long now = virtual.advance(Math.min(step, end - virtual.millis()));
+                tickEngine.tick(now, Long.MAX_VALUE);
+                if (now >= nextCleanupMs) {
+                    nextCleanupMs += DECORATOR_CLEANUP_MS;
+                    getDecoratorManager().cleanupExpiredDecorators();
+                }
+                if (now >= nextWaveMs) {
+                    nextWaveMs += MAGIC_WAVE_PERIOD_MS;
+                    gameEvent();
+                }
+            }
+        });
+    }
+
+    /**
+     * Chooses which threads run the enemy tasks, must be called before {@link #startGame()}.
+     * In {@link ExecutorMode#VIRTUAL} mode at most two enemies per processor mutate the map at once.
+     */
+    public void setExecutorMode(ExecutorMode executorMode) {
+        setExecutorMode(executorMode, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Chooses which threads run the enemy tasks, must be called before {@link #startGame()}.
+     *
+     * @param maxMapMutators how many enemies may act on the map at once in {@link ExecutorMode#VIRTUAL} mode
+     */
+    public void setExecutorMode(ExecutorMode executorMode, int maxMapMutators) {
+        if (isRunning.get()) {
+            throw new IllegalStateException("Executor mode must be set before the game starts");
+        }
+        this.executorMode = executorMode;
+        this.mapMutators = (executorMode == ExecutorMode.VIRTUAL) ? new Semaphore(maxMapMutators) : null;
+
+        if (sharedExecutors) {
+            enemyThreadPool = SharedExecutors.enemyPool(executorMode);
+            return;
+        }
+        ExecutorService oldPool = enemyThreadPool;
+        enemyThreadPool = createEnemyPool(calculateThreadPoolSize());
+        oldPool.shutdown();
+    }
+
+    public ExecutorMode getExecutorMode() {
+        return executorMode;
+    }
+
+    /**
+     * returns the semaphore bounding the enemies that mutate the map, or null in
+     * {@link ExecutorMode#PLATFORM} mode where the pool size already bounds them
+     */
+    Semaphore getMapMutators() {
+        return mapMutators;
+    }
+
+    /**
+     * counts one finished enemy action, called by {@link EnemyTask}
+     */
+    void recordEnemyAction() {
+        enemyActions.increment();
+    }
+
+    /**
+     * returns how many enemy actions ran since the world was created
+     */
+    public long getEnemyActionCount() {
+        return enemyActions.sum();
+    }
+
+    /**
+     * Runs one tick of a world in {@link EngineMode#HOSTED} mode on the calling thread.
+     * The due enemies act until {@code budgetNanos} is spent, the rest act first next tick.
+     */
+    public void tick(long nowMs, long budgetNanos) {
+        if (tickEngine == null || !isRunning.get()) return;
+        runInWorld(() -> tickEngine.tick(nowMs, budgetNanos));
+    }
+
+    /**
+     * returns the tick counters (tick duration, actions, overruns), or null if the game
+     * is running in {@link EngineMode#SCHEDULED} mode
+     */
+    public TickEngine.TickStats getTickStats() {
+        return tickEngine == null ? null : tickEngine.getStats();
+    }
+
 
 
     public void stopGame() {
         isRunning.set(false);
 
+        synchronized (this) {
+            if (decoratorManager != null) {
+                decoratorManager.shutdown();
+            }
+        }
+
+        if (sharedExecutors) {
+            // the threads belong to every world, only this world's periodic tasks are cancelled;
+            // its pending enemy tasks see that the world stopped and end by themselves
+            if (tickFuture != null) tickFuture.cancel(false);
+            if (waveFuture != null) waveFuture.cancel(false);
+            logger.log("Game Ended");
+            logger.shutdown();
+            return;
+        }
+
         enemyScheduler.shutdownNow();
         worldEventScheduler.shutdownNow();
+        synchronized (this) {
+            if (simulationThread != null) simulationThread.shutdown();
+        }
 
         enemyThreadPool.shutdown();
         try {
@@ -307,7 +745,7 @@ public class GameWorld {
             Thread.currentThread().interrupt();
         }
 
-        GameLogger.getInstance().log("Game Ended");
+        logger.log("Game Ended");
     }
     /**
      * Serialize the current world state to the given file.
@@ -352,9 +790,7 @@ public class GameWorld {
         String lastAct = (this.lastAction == null)
                 ? null
                 : this.lastAction.name();
-        Position lastActPos = (this.lastActionPos != null)
-                ? new Position(this.lastActionPos)
-                : null;
+        Position lastActPos = this.lastActionPos;
 
         return new GameMemento(
                 playerSnap,
@@ -370,6 +806,8 @@ public class GameWorld {
     public void restoreState(GameMemento m) {
         // A) clear out the old world completely
         map.clearAll();
+        players.forEach(old -> old.setWorldId(StatStore.NO_WORLD));
+        enemies.forEach(old -> old.setWorldId(StatStore.NO_WORLD));
         players.clear();
         enemies.clear();
         items.clear();
@@ -395,6 +833,7 @@ public class GameWorld {
             }
         }
 
+        p.setWorldId(id);
         players.add(p);
         map.addEntity(p.getPosition(), p);
 
@@ -421,9 +860,7 @@ public class GameWorld {
         this.lastAction = (m.getLastAction() == null)
                 ? null
                 : Action.valueOf(m.getLastAction());
-        this.lastActionPos = (m.getLastActionPos() != null)
-                ? new Position(m.getLastActionPos())
-                : null;
+        this.lastActionPos = m.getLastActionPos();
     }
 
 
@@ -439,15 +876,67 @@ public class GameWorld {
     public Action getLastAction() { return lastAction; }
     public Position getLastActionPos() { return lastActionPos; }
 
+    /**
+     * returns how many enemies of every type are in the world, by class name
+     */
+    public Map<String, Integer> getEnemyCounts() { return enemies.getCounts(); }
+
+    /**
+     * returns how many items of every type are in the world, by class name
+     */
+    public Map<String, Integer> getItemCounts() { return items.getCounts(); }
+
     public void registerObserver(GameObserver o) { observers.add(o); }
     public void unregisterObserver(GameObserver o) { observers.remove(o); }
-    public void notifyObservers() { observers.forEach(GameObserver::onModelChanged); }
+
+    /**
+     * Tells the observers that the model changed. The call only marks the world dirty; the
+     * observers are notified once per frame through the {@link #getNotificationBus() bus}.
+     */
+    public void notifyObservers() { notificationBus.markDirty(); }
+
+    /**
+     * returns the bus that rate-limits the observer notifications of this world
+     */
+    public NotificationBus getNotificationBus() { return notificationBus; }
+
+    /**
+     * Reports one change to the observers, who get it with the next notification.
+     * Nothing is queued while nobody observes the world.
+     */
+    public void publish(GameEvent event) {
+        if (!observers.isEmpty()) {
+            notificationBus.post(event);
+        }
+    }
+
+    /**
+     * Runs {@code task} once the observers got every event published so far, right away if
+     * nobody observes the world. An entity those events name may only be recycled in here.
+     */
+    void afterEventsDelivered(Runnable task) {
+        if (observers.isEmpty()) {
+            task.run();
+        } else {
+            notificationBus.afterDelivery(task);
+        }
+    }
+
+    private void deliverToObservers(List<GameEvent> events) {
+        List<GameEvent> view = Collections.unmodifiableList(events);
+        runInWorld(() -> {
+            for (GameObserver o : observers) {
+                o.onEvents(view);
+                o.onModelChanged();
+            }
+        });
+    }
 
     public boolean pickUpItem(GameItem item) {
         if (item == null) return false;
 
         map.removeEntity(item);
-        items.remove(item);
+        boolean removed = items.remove(item);
 
         PlayerCharacter player = players.get(0);
         if (item instanceof Potion) {
@@ -457,16 +946,22 @@ public class GameWorld {
             SoundPlayer.play("treasure-sound.wav");
         }
 
-        GameLogger.getInstance().log(player.getName() + " picked up " + item.getDisplaySymbol() + " at " + item.getPosition());
+        logger.log(player.getName() + " picked up " + item.getDisplaySymbol() + " at " + item.getPosition());
+        publish(new GameEvent.ItemPickedUp(player, item, item.getPosition()));
 
         lastActionPos = item.getPosition();
         lastAction = Action.PICKUP;
         notifyObservers();
+
+        // the treasure is spent, the object is reused for the next loot once the observers saw it go
+        if (removed && item instanceof Treasure t) {
+            afterEventsDelivered(() -> EntityPools.recycle(t));
+        }
         return true;
     }
 
-    public void useItem(GameItem item) {
-        if (item == null) return;
+    public boolean useItem(GameItem item) {
+        if (item == null) return false;
 
         PlayerCharacter player = players.get(0);
         boolean used = false;
@@ -485,19 +980,26 @@ public class GameWorld {
             lastAction = Action.PICKUP;
             notifyObservers();
 
-            GameLogger.getInstance().log(player.getName() + " used potion " + item.getDisplaySymbol() + " at " + player.getPosition());
+            logger.log(player.getName() + " used potion " + item.getDisplaySymbol() + " at " + player.getPosition());
         } else {
             System.out.println("Can't use " + item.getDisplaySymbol());
-            GameLogger.getInstance().log(player.getName() + " failed to use " + item.getDisplaySymbol());
+            logger.log(player.getName() + " failed to use " + item.getDisplaySymbol());
         }
+        return used;
     }
 
-    public void attack(Enemy enemy) {
-        if (!worldLock.tryLock()) return;
+    /**
+     * Fights the enemy and returns the battle, or null if the world was busy and nothing happened.
+     * The fight holds the world lock, so it is called off after a bounded number of rounds; the
+     * result then {@link BattleResult#isCalledOff() says so} and the player is told to attack again.
+     * Use {@link #submit(PlayerCommand)} with an {@link PlayerCommand.Attack} to never lose the attack.
+     */
+    public BattleResult attack(Enemy enemy) {
+        if (!worldLock.tryLock()) return null;
         try {
             PlayerCharacter player = players.get(0);
 
-            GameLogger.getInstance().log(player.getName() + " attacked " + enemy.getDisplaySymbol() + " at " + enemy.getPosition());
+            logger.log(player.getName() + " attacked " + enemy.getDisplaySymbol() + " at " + enemy.getPosition());
 
             switch (player.getClass().getSimpleName()) {
                 case "Warrior" -> SoundPlayer.play("warrior_attack.wav");
@@ -505,8 +1007,16 @@ public class GameWorld {
                 case "Archer" -> SoundPlayer.play("archer_attack.wav");
             }
 
-            BattleResult result = CombatSystem.resolveCombat(player, enemy);
+            Position playerAt = player.getPosition();
+            Position enemyAt = enemy.getPosition();
+            CombatEngine engine = new CombatEngine(player, enemy, LOCKED_ROUND_LIMIT);
+            if (!observers.isEmpty()) {
+                engine.setRoundListener(round ->
+                        publish(new GameEvent.CombatRoundPlayed(round, player, enemy, playerAt, enemyAt)));
+            }
+            BattleResult result = engine.runToEnd();
             battleResults.add(result);
+            publish(new GameEvent.CombatResolved(result, player, enemy, player.getPosition(), enemy.getPosition()));
 
             lastActionPos = enemy.getPosition();
             lastAction = Action.COMBAT;
@@ -518,39 +1028,120 @@ public class GameWorld {
             }
 
             if (enemy.isDead()) {
-                GameLogger.getInstance().log(enemy.getDisplaySymbol() + " died after attack by " + player.getName());
+                logger.log(enemy.getDisplaySymbol() + " died after attack by " + player.getName());
             } else {
-                GameLogger.getInstance().log(enemy.getDisplaySymbol() + " has " + enemy.getHealth() + " HP remaining ");
+                logger.log(enemy.getDisplaySymbol() + " has " + enemy.getHealth() + " HP remaining ");
             }
+            reportCalledOff(result, player, enemy);
 
             if (player.isDead()) {
                 System.out.println("Game Over! " + player.getName() + " was defeated. ");
                 SoundPlayer.play("game_over.wav");
-                GameLogger.getInstance().log(player.getName() + " died during combat ");
+                logger.log(player.getName() + " died during combat ");
+                publish(new GameEvent.EntityDied(player, player.getPosition()));
                 notifyObservers();
-                return;
+                return result;
             }
 
             if (enemy.isDead()) {
-                System.out.println(enemy.enemyDiscription() + " defeated!");
-                SoundPlayer.play("enemy_die.wav");
-                GameLogger.getInstance().log(enemy.getDisplaySymbol() + " was defeated by " + player.getName());
-                Treasure loot = enemy.defeat();
-                loot.setVisible(true);
-                map.removeEntity(enemy);
-                enemies.remove(enemy);
-                map.addEntity(enemy.getPosition(), loot);
-                items.add(loot);
-                GameLogger.getInstance().log(" Loot " + loot.getDisplaySymbol() + " appeared at " + loot.getPosition());
+                logger.log(enemy.getDisplaySymbol() + " was defeated by " + player.getName());
+                dropLoot(enemy);
             }
 
             map.revealNearby(player.getPosition());
             notifyObservers();
+            return result;
+        } finally {
+            worldLock.unlock();
+        }
+    }
+
+    // a fight that ran into LOCKED_ROUND_LIMIT is not over, whoever fought it is told to go on
+    private void reportCalledOff(BattleResult result, Combatant attacker, Combatant defender) {
+        if (!result.isCalledOff()) return;
+        String message = "The fight of " + attacker.getName() + " against " + defender.getName()
+                + " was called off after " + result.getRounds() + " rounds, both are still standing";
+        logger.log(message);
+        if (attacker instanceof PlayerCharacter) {
+            System.out.println(message + ". Attack again to go on.");
+        }
+    }
+
+    /**
+     * Resolves many fights in one go, for example a horde engaging the player and each other in
+     * the same tick. The fights are played by a {@link BatchCombatResolver}, the ones that share
+     * no combatant in parallel, while this world is locked, so nobody sees a half-fought batch.
+     * Afterwards the dead enemies drop their loot and leave the map, and the results are recorded
+     * like those of {@link #attack(Enemy)}.
+     *
+     * @return the result of every engagement, in the order of {@code engagements}
+     */
+    public List<BattleResult> resolveEngagements(List<Engagement> engagements) {
+        worldLock.lock();
+        try {
+            PlayerCharacter player = players.isEmpty() ? null : players.get(0);
+            List<BattleResult> results = batchResolver.resolve(engagements);
+
+            Set<Enemy> dead = new LinkedHashSet<>();
+            for (int i = 0; i < engagements.size(); i++) {
+                Engagement engagement = engagements.get(i);
+                Combatant attacker = engagement.getAttacker();
+                Combatant defender = engagement.getDefender();
+                battleResults.add(results.get(i));
+                reportCalledOff(results.get(i), attacker, defender);
+                if (attacker == player && defender instanceof AbstractCharacter enemy) {
+                    publish(new GameEvent.CombatResolved(results.get(i), player, enemy,
+                            player.getPosition(), enemy.getPosition()));
+                }
+                for (Combatant c : List.of(attacker, defender)) {
+                    if (c instanceof Enemy enemy && enemy.isDead()) {
+                        dead.add(enemy);
+                    }
+                }
+            }
+
+            for (Enemy enemy : dead) {
+                if (enemies.getById(enemy.getId()) != null) {
+                    dropLoot(enemy);
+                }
+            }
+            if (player != null && player.isDead()) {
+                System.out.println("Game Over! " + player.getName() + " was defeated. ");
+                SoundPlayer.play("game_over.wav");
+                logger.log(player.getName() + " died during combat ");
+                publish(new GameEvent.EntityDied(player, player.getPosition()));
+            }
+
+            if (!engagements.isEmpty()) {
+                lastActionPos = engagements.get(engagements.size() - 1).getDefender().getPosition();
+                lastAction = Action.COMBAT;
+                logger.log("Resolved " + engagements.size() + " engagements, " + dead.size() + " enemies died");
+                notifyObservers();
+            }
+            return results;
         } finally {
             worldLock.unlock();
         }
     }
 
+    // a dead enemy leaves the map and its treasure takes its place
+    private void dropLoot(Enemy enemy) {
+        System.out.println(enemy.enemyDiscription() + " defeated!");
+        SoundPlayer.play("enemy_die.wav");
+        publish(new GameEvent.EntityDied(enemy, enemy.getPosition()));
+        Treasure loot = enemy.defeat();
+        loot.setVisible(true);
+        map.removeEntity(enemy);
+        enemies.remove(enemy);
+        map.addEntity(enemy.getPosition(), loot);
+        items.add(loot);
+        logger.log(" Loot " + loot.getDisplaySymbol() + " appeared at " + loot.getPosition());
+    }
+
+    /**
+     * Moves the player to a neighbouring cell; returns false if it could not, also when the world
+     * was busy. Use {@link #submit(PlayerCommand)} with a {@link PlayerCommand.Move} to never lose the move.
+     */
     public boolean movePlayer(Position to) {
         if (!worldLock.tryLock()) {
             return false;
@@ -568,7 +1159,7 @@ public class GameWorld {
 
             boolean moved = map.moveEntity(player, dir);
             if (moved) {
-                GameLogger.getInstance().log(player.getName() + " moved from " + from + " to " + to);
+                logger.log(player.getName() + " moved from " + from + " to " + to);
                 lastActionPos = to;
                 lastAction = Action.MOVE;
                 map.revealNearby(player.getPosition());
@@ -585,46 +1176,60 @@ public class GameWorld {
     private void pwrMagicWave() {
         System.out.println("A power wave occurs and empowers everyone!");
 
-        Random rand = new Random();
+        RandomGenerator rand = RandomSource.current();
         int powerGiven = rand.nextInt(11) + 5;
 
-        for (PlayerCharacter player : players) {
-            if (!player.isDead()) {
-                int playerPower = player.getPower() + powerGiven;
-                player.setPower(playerPower);
-            }
-        }
+        StatStore.getInstance().addPower(id, powerGiven);
 
-        for (Enemy enemy : enemies) {
-            if (!enemy.isDead()) {
-                int enemyPower = enemy.getPower() + powerGiven;
-                enemy.setPower(enemyPower);
+        if (!observers.isEmpty()) {
+            List<Position> affected = new ArrayList<>();
+            for (PlayerCharacter player : players) {
+                if (!player.isDead()) affected.add(player.getPosition());
             }
+            for (Enemy enemy : enemies) {
+                if (!enemy.isDead()) affected.add(enemy.getPosition());
+            }
+            publish(new GameEvent.WaveApplied(GameEvent.WaveApplied.Kind.POWER, powerGiven, affected));
         }
     }
 
     private void dmgMagicWave() {
         System.out.println("A magic wave occurs and damages everyone!");
 
-        Random rand = new Random();
+        RandomGenerator rand = RandomSource.current();
         int waveDMG = rand.nextInt(11) + 5; // between 5 - 15
 
-        for (PlayerCharacter player : players) {
-            if (!player.isDead()) {
-                player.takeDamage(waveDMG);
+        StatStore.getInstance().damage(id, waveDMG);
+        // the bulk damage skips characters with compiled decorators: a shield halves wave damage
+        for (AbstractCharacter c : getDecoratorManager().getDecoratedCharacters()) {
+            if (c.getModifiers() != null && c.getWorldId() == id && !c.isDead()) {
+                c.takeDamage(waveDMG);
             }
         }
 
-        for (Enemy enemy : enemies) {
-            if (!enemy.isDead()) {
-                enemy.takeDamage(waveDMG);
+        if (!observers.isEmpty()) {
+            // a character was alive before the wave if the damage took its health from above 0
+            List<Position> affected = new ArrayList<>();
+            List<AbstractCharacter> killed = new ArrayList<>();
+            List<AbstractCharacter> all = new ArrayList<>(players);
+            all.addAll(enemies);
+            for (AbstractCharacter c : all) {
+                int health = c.getHealth();
+                if (health + waveDMG > 0) {
+                    affected.add(c.getPosition());
+                    if (health <= 0) killed.add(c);
+                }
+            }
+            publish(new GameEvent.WaveApplied(GameEvent.WaveApplied.Kind.DAMAGE, waveDMG, affected));
+            for (AbstractCharacter c : killed) {
+                publish(new GameEvent.EntityDied(c, c.getPosition()));
             }
         }
     }
 
     public void applyRandomEnemyDecorators() {
         DecoratorManager manager = DecoratorManager.getInstance();
-        Random rand = new Random();
+        RandomGenerator rand = RandomSource.current();
 
         for (Enemy enemy : enemies) {
             // 20% chance to get a decorator
@@ -633,10 +1238,9 @@ public class GameWorld {
                 int duration = 30 + rand.nextInt(31);
                 Enemy decorated = manager.applyRandomEnemyDecorator(enemy, duration);
 
-                // Update enemy in list
-                int index = enemies.indexOf(enemy);
-                if (index >= 0) {
-                    enemies.set(index, decorated);
+                // Update enemy in list, the decorated enemy keeps the id
+                if (decorated != enemy) {
+                    enemies.replace(decorated);
                 }
             }
         }
@@ -646,8 +1250,8 @@ public class GameWorld {
     public String toString() {
         var sb = new StringBuilder("=== Game World Summary ===\n");
         sb.append("Players: ").append(players != null ? players.size() : 0).append("\n");
-        sb.append("Enemies: ").append(enemies != null ? enemies.size() : 0).append("\n");
-        sb.append("Items:   ").append(items != null ? items.size() : 0).append("\n");
+        sb.append("Enemies: ").append(enemies != null ? enemies.size() + " " + enemies.getCounts() : 0).append("\n");
+        sb.append("Items:   ").append(items != null ? items.size() + " " + items.getCounts() : 0).append("\n");
         sb.append("Map:     ").append(map).append("\n");
         sb.append("Thread Pool Size: ").append(threadPoolSize).append("\n");
         return sb.toString();
@@ -0,0 +1,173 @@
+package game.Model.engine;
+
+import game.Controller.GameEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Coalesces model change notifications into at most one delivery per frame.
+ *
+ * <p>
+ * {@link #markDirty()} only sets a flag. The first change after a delivery schedules the next
+ * delivery for the start of the next frame; every further change until then is folded into it
+ * and counted as suppressed. The delivery runs on the chosen executor, by default directly on
+ * the timer thread; a Swing view passes {@code SwingUtilities::invokeLater} so the observers run
+ * on the event dispatch thread. The flag is cleared before the observers run, so a change made
+ * while they run is not lost but delivered in the next frame.
+ * </p>
+ *
+ * <p>
+ * Typed events are not coalesced: {@link #post(GameEvent)} queues the event and marks the
+ * model dirty, and the next delivery hands over every event queued since the previous one.
+ * {@link #afterDelivery(Runnable)} queues a task in the same queue, it runs once the events
+ * queued before it were handed over, for example to recycle an entity those events name.
+ * </p>
+ */
+public class NotificationBus {
+
+    public static final int DEFAULT_FRAMES_PER_SECOND = 60;
+
+    private final Consumer<List<GameEvent>> delivery;
+    // GameEvents and the Runnables of afterDelivery, in the order they were queued
+    private final ConcurrentLinkedQueue<Object> events = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService timer;
+    private volatile Executor executor = Runnable::run;
+    private volatile long frameNanos = TimeUnit.SECONDS.toNanos(1) / DEFAULT_FRAMES_PER_SECOND;
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile long lastDeliveryNanos = System.nanoTime() - frameNanos;
+
+    private final LongAdder requested = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * @param delivery notifies every observer once, with the events queued since the last delivery
+     * @param timer    schedules the deliveries
+     */
+    public NotificationBus(Consumer<List<GameEvent>> delivery, ScheduledExecutorService timer) {
+        this.delivery = delivery;
+        this.timer = timer;
+    }
+
+    /**
+     * sets the executor the observers are notified on
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor == null ? Runnable::run : executor;
+    }
+
+    /**
+     * sets the highest number of deliveries per second
+     */
+    public void setFramesPerSecond(int framesPerSecond) {
+        if (framesPerSecond <= 0) {
+            throw new IllegalArgumentException("framesPerSecond must be positive: " + framesPerSecond);
+        }
+        this.frameNanos = TimeUnit.SECONDS.toNanos(1) / framesPerSecond;
+    }
+
+    /**
+     * records that the model changed; the observers hear about it in the next frame at the latest
+     */
+    public void markDirty() {
+        requested.increment();
+        if (!dirty.compareAndSet(false, true)) {
+            suppressed.increment();
+            return;
+        }
+        long delay = Math.max(0, lastDeliveryNanos + frameNanos - System.nanoTime());
+        try {
+            timer.schedule(this::handOff, delay, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // the world is shutting down, nobody is left to redraw
+            dirty.set(false);
+        }
+    }
+
+    /**
+     * queues an event for the next delivery and marks the model dirty
+     */
+    public void post(GameEvent event) {
+        events.add(event);
+        markDirty();
+    }
+
+    /**
+     * runs {@code task} right after the delivery of every event posted before it, on the
+     * executor of the observers
+     */
+    public void afterDelivery(Runnable task) {
+        events.add(task);
+        markDirty();
+    }
+
+    private void handOff() {
+        try {
+            executor.execute(this::deliver);
+        } catch (RejectedExecutionException e) {
+            dirty.set(false);
+        }
+    }
+
+    private void deliver() {
+        dirty.set(false);
+        lastDeliveryNanos = System.nanoTime();
+        delivered.increment();
+        List<GameEvent> batch = new ArrayList<>();
+        List<Runnable> after = new ArrayList<>();
+        for (Object e; (e = events.poll()) != null; ) {
+            if (e instanceof GameEvent event) {
+                batch.add(event);
+            } else {
+                after.add((Runnable) e);
+            }
+        }
+        try {
+            delivery.accept(batch);
+        } finally {
+            after.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * returns how many changes were reported
+     */
+    public long getRequestedCount() {
+        return requested.sum();
+    }
+
+    /**
+     * returns how many times the observers were notified
+     */
+    public long getDeliveredCount() {
+        return delivered.sum();
+    }
+
+    /**
+     * returns how many changes were folded into a delivery that was already pending
+     */
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    public boolean isDirty() {
+        return dirty.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("NotificationBus[requested=%d, delivered=%d, suppressed=%d, fps=%d]",
+                getRequestedCount(), getDeliveredCount(), getSuppressedCount(),
+                TimeUnit.SECONDS.toNanos(1) / frameNanos);
+    }
+}
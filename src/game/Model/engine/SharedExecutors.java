@@ -0,0 +1,57 @@
+package game.Model.engine;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The worker threads shared by every world made with {@link GameWorld#create()}.
+ *
+ * <p>
+ * The default world keeps its own executors. Worlds hosted side by side share one bounded
+ * platform pool (or one virtual-thread executor), and one scheduler for the enemy cadence,
+ * the ticks and the world events, so the number of threads does not grow with the number of
+ * worlds. The scheduler also times the observer notifications of every world, the default
+ * one included. Every executor is created on first use and its threads are daemons.
+ * </p>
+ */
+final class SharedExecutors {
+
+    static final int POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+    static final int SCHEDULER_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private SharedExecutors() {
+    }
+
+    private static class PlatformHolder {
+        private static final AtomicInteger count = new AtomicInteger();
+        private static final ExecutorService POOL = Executors.newFixedThreadPool(POOL_SIZE, r -> {
+            Thread t = new Thread(r, "SharedEnemyWorker-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private static class VirtualHolder {
+        private static final ExecutorService POOL =
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("SharedEnemyVirtual-", 0).factory());
+    }
+
+    private static class SchedulerHolder {
+        private static final AtomicInteger count = new AtomicInteger();
+        private static final ScheduledExecutorService SCHEDULER = Executors.newScheduledThreadPool(SCHEDULER_SIZE, r -> {
+            Thread t = new Thread(r, "SharedWorldScheduler-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    static ExecutorService enemyPool(GameWorld.ExecutorMode mode) {
+        return mode == GameWorld.ExecutorMode.VIRTUAL ? VirtualHolder.POOL : PlatformHolder.POOL;
+    }
+
+    static ScheduledExecutorService scheduler() {
+        return SchedulerHolder.SCHEDULER;
+    }
+}
@@ -0,0 +1,323 @@
+package game.Model.engine;
+
+import game.Model.characters.Enemy;
+import game.Model.core.RandomSource;
+import game.Util.GameLogger;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-tick driver for the enemies of a {@link GameWorld}.
+ *
+ * <p>
+ * Instead of one scheduled task per enemy, every enemy has a next-action timestamp and
+ * {@link #tick(long)} advances all the enemies that are due, in batches of {@link #BATCH_SIZE}
+ * submitted to the enemy thread pool. After acting an enemy gets a new timestamp 500-1500 ms
+ * later, the same cadence as the scheduled mode. The tick waits for its batches, so a tick never
+ * overlaps the next one.
+ * </p>
+ *
+ * <p>
+ * The arrays of the engine are only touched by the thread calling {@link #tick(long)}. Enemies
+ * added from other threads (replacements spawned by a dying enemy) go through a concurrent inbox
+ * that is drained at the start of every tick. Every enemy gets one reusable {@link EnemyTask}, so
+ * the steady state does not allocate per action.
+ * </p>
+ *
+ * <p>
+ * A host running many worlds uses {@link #tick(long, long)} instead: the due enemies run on the
+ * calling thread until the time budget is spent, and the ones left over stay due for the next
+ * tick. The scan resumes where the previous tick stopped, so no enemy is starved.
+ * </p>
+ */
+public class TickEngine {
+
+    public static final long DEFAULT_TICK_MS = 50;
+    static final int BATCH_SIZE = 64;
+
+    /**
+     * Snapshot of the tick counters of the engine.
+     */
+    public static class TickStats {
+        private final long ticks;
+        private final long actions;
+        private final long lastTickNanos;
+        private final long maxTickNanos;
+        private final long totalTickNanos;
+        private final long overruns;
+        private final long budgetExceeded;
+        private final int enemies;
+
+        public TickStats(long ticks, long actions, long lastTickNanos, long maxTickNanos,
+                         long totalTickNanos, long overruns, long budgetExceeded, int enemies) {
+            this.ticks = ticks;
+            this.actions = actions;
+            this.lastTickNanos = lastTickNanos;
+            this.maxTickNanos = maxTickNanos;
+            this.totalTickNanos = totalTickNanos;
+            this.overruns = overruns;
+            this.budgetExceeded = budgetExceeded;
+            this.enemies = enemies;
+        }
+
+        /** number of ticks run */
+        public long getTicks() { return ticks; }
+
+        /** number of enemy actions run by all ticks */
+        public long getActions() { return actions; }
+
+        /** duration of the last tick in nanoseconds */
+        public long getLastTickNanos() { return lastTickNanos; }
+
+        /** duration of the longest tick in nanoseconds */
+        public long getMaxTickNanos() { return maxTickNanos; }
+
+        /** average tick duration in nanoseconds */
+        public long getAverageTickNanos() { return ticks == 0 ? 0 : totalTickNanos / ticks; }
+
+        /** ticks that took longer than the tick period */
+        public long getOverruns() { return overruns; }
+
+        /** budgeted ticks that ran out of time before every due enemy acted */
+        public long getBudgetExceeded() { return budgetExceeded; }
+
+        /** enemies currently driven by the engine */
+        public int getEnemies() { return enemies; }
+
+        @Override
+        public String toString() {
+            return String.format("ticks=%d, actions=%d, enemies=%d, lastTick=%.3fms, avgTick=%.3fms, maxTick=%.3fms, overruns=%d, budgetExceeded=%d",
+                    ticks, actions, enemies, lastTickNanos / 1e6, getAverageTickNanos() / 1e6, maxTickNanos / 1e6, overruns, budgetExceeded);
+        }
+    }
+
+    /**
+     * an enemy waiting in the inbox for the next tick
+     */
+    private static final class Pending {
+        final Enemy enemy;
+        final long delayMs;
+
+        Pending(Enemy enemy, long delayMs) {
+            this.enemy = enemy;
+            this.delayMs = delayMs;
+        }
+    }
+
+    private final ExecutorService pool;
+    private final long tickMs;
+    private final Queue<Pending> inbox = new ConcurrentLinkedQueue<>();
+
+    // parallel arrays, only used by the tick thread
+    private Enemy[] enemies = new Enemy[64];
+    private EnemyTask[] tasks = new EnemyTask[64];
+    private long[] nextAction = new long[64];
+    private int count;
+    private EnemyTask[] due = new EnemyTask[64];
+
+    private volatile long ticks;
+    private volatile long lastTickNanos;
+    private volatile long maxTickNanos;
+    private volatile long totalTickNanos;
+    private volatile long overruns;
+    private volatile long budgetExceeded;
+    private int cursor;
+    private volatile int enemyCount;
+    private final LongAdder actions = new LongAdder();
+
+    /**
+     * @param pool where the batches of a large tick run, or null to run every batch on the
+     *             thread calling {@link #tick(long)}, for a tick that itself runs on a shared pool
+     */
+    public TickEngine(ExecutorService pool, long tickMs) {
+        this.pool = pool;
+        this.tickMs = tickMs;
+    }
+
+    /**
+     * registers an enemy, its first action is due {@code delayMs} after the next tick starts
+     */
+    public void add(Enemy enemy, long delayMs) {
+        inbox.add(new Pending(enemy, delayMs));
+    }
+
+    /**
+     * returns the tick period the engine was created with
+     */
+    public long getTickMs() {
+        return tickMs;
+    }
+
+    /**
+     * Runs one tick: every enemy whose next action is due at {@code nowMs} acts once.
+     * Must be called from one thread at a time.
+     */
+    public void tick(long nowMs) {
+        long start = System.nanoTime();
+        drainInbox(nowMs);
+
+        int dueCount = 0;
+        for (int i = 0; i < count; ) {
+            Enemy enemy = enemies[i];
+            if (enemy.isDead()) {
+                dropDead(i);
+                continue;
+            }
+            if (nextAction[i] <= nowMs) {
+                if (dueCount == due.length) {
+                    due = Arrays.copyOf(due, dueCount * 2);
+                }
+                due[dueCount++] = tasks[i];
+                nextAction[i] = nowMs + 500 + RandomSource.current().nextInt(1001);
+            }
+            i++;
+        }
+
+        runBatches(dueCount);
+        Arrays.fill(due, 0, dueCount, null);
+        record(start, dueCount);
+    }
+
+    /**
+     * Runs one tick on the calling thread, spending at most about {@code budgetNanos}.
+     * Enemies that are due but did not get to act keep their timestamp and act first next time.
+     * Must be called from one thread at a time.
+     *
+     * @return how many enemies acted
+     */
+    public int tick(long nowMs, long budgetNanos) {
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        drainInbox(nowMs);
+
+        int acted = 0;
+        int i = cursor < count ? cursor : 0;
+        for (int seen = 0, n = count; seen < n && count > 0; seen++) {
+            if (i >= count) i = 0;
+            if (enemies[i].isDead()) {
+                dropDead(i); // the last enemy moved into slot i, look at it next
+                continue;
+            }
+            if (nextAction[i] <= nowMs) {
+                // at least one enemy acts per tick, so a tiny budget still makes progress
+                if (acted > 0 && System.nanoTime() - deadline > 0) {
+                    budgetExceeded++;
+                    break;
+                }
+                nextAction[i] = nowMs + 500 + RandomSource.current().nextInt(1001);
+                tasks[i].run();
+                acted++;
+            }
+            i++;
+        }
+        cursor = i;
+        record(start, acted);
+        return acted;
+    }
+
+    private void record(long start, int acted) {
+        actions.add(acted);
+        long elapsed = System.nanoTime() - start;
+        lastTickNanos = elapsed;
+        totalTickNanos += elapsed;
+        if (elapsed > maxTickNanos) maxTickNanos = elapsed;
+        if (elapsed > tickMs * 1_000_000L) overruns++;
+        enemyCount = count;
+        ticks++;
+    }
+
+    private void runBatches(int dueCount) {
+        if (dueCount == 0) return;
+        if (dueCount <= BATCH_SIZE || pool == null) {
+            runRange(0, dueCount);
+            return;
+        }
+
+        int batches = (dueCount + BATCH_SIZE - 1) / BATCH_SIZE;
+        CountDownLatch done = new CountDownLatch(batches);
+        for (int b = 0; b < batches; b++) {
+            int from = b * BATCH_SIZE;
+            int to = Math.min(dueCount, from + BATCH_SIZE);
+            try {
+                pool.execute(() -> {
+                    try {
+                        runRange(from, to);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                done.countDown();
+            }
+        }
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runRange(int from, int to) {
+        for (int i = from; i < to; i++) {
+            due[i].run();
+        }
+    }
+
+    private void drainInbox(long nowMs) {
+        Pending pending;
+        while ((pending = inbox.poll()) != null) {
+            if (count == enemies.length) {
+                enemies = Arrays.copyOf(enemies, count * 2);
+                tasks = Arrays.copyOf(tasks, count * 2);
+                nextAction = Arrays.copyOf(nextAction, count * 2);
+            }
+            enemies[count] = pending.enemy;
+            tasks[count] = new EnemyTask(pending.enemy);
+            nextAction[count] = nowMs + pending.delayMs;
+            count++;
+        }
+    }
+
+    // no task of the enemy runs between ticks, so its world may recycle it now
+    private void dropDead(int i) {
+        Enemy dead = enemies[i];
+        removeAt(i);
+        GameWorld world = dead.getWorld();
+        if (world != null) {
+            world.retire(dead);
+        }
+    }
+
+    // swaps the last enemy into slot i
+    private void removeAt(int i) {
+        int last = --count;
+        enemies[i] = enemies[last];
+        tasks[i] = tasks[last];
+        nextAction[i] = nextAction[last];
+        enemies[last] = null;
+        tasks[last] = null;
+    }
+
+    /**
+     * drops every enemy, used when the game stops
+     */
+    public void clear() {
+        inbox.clear();
+        Arrays.fill(enemies, 0, count, null);
+        Arrays.fill(tasks, 0, count, null);
+        count = 0;
+        enemyCount = 0;
+        GameLogger.getInstance().log("Tick engine cleared");
+    }
+
+    public TickStats getStats() {
+        return new TickStats(ticks, actions.sum(), lastTickNanos, maxTickNanos, totalTickNanos, overruns,
+                budgetExceeded, enemyCount);
+    }
+}
@@ -0,0 +1,48 @@
+package game.Model.engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A clock that stands still until it is advanced.
+ *
+ * <p>
+ * Used with {@link GameWorld#runFor(long)}: the world moves the clock forward one tick at a
+ * time and runs whatever became due, without waiting in between. Reading the clock is safe
+ * from any thread.
+ * </p>
+ */
+public class VirtualClock implements GameClock {
+
+    private final AtomicLong now;
+
+    /**
+     * starts at the current real time, so logs and saves still show plausible times
+     */
+    public VirtualClock() {
+        this(System.currentTimeMillis());
+    }
+
+    public VirtualClock(long startMillis) {
+        this.now = new AtomicLong(startMillis);
+    }
+
+    @Override
+    public long millis() {
+        return now.get();
+    }
+
+    /**
+     * moves the clock forward and returns the new time
+     */
+    public long advance(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("A clock cannot go back: " + millis);
+        }
+        return now.addAndGet(millis);
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualClock[" + now.get() + "]";
+    }
+}
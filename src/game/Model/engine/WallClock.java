@@ -0,0 +1,17 @@
+package game.Model.engine;
+
+/**
+ * The real time, the clock every world uses unless told otherwise.
+ */
+public class WallClock implements GameClock {
+
+    @Override
+    public long millis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public String toString() {
+        return "WallClock";
+    }
+}
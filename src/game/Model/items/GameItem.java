@@ -1,14 +1,16 @@
 package game.Model.items;
 import game.Model.characters.PlayerCharacter;
+import game.Model.core.EntityIds;
 import game.Model.core.GameEntity;
 import game.Model.map.Position;
-import java.util.Objects;
 
 /**
  * Represents all the different kinds of items in the game, it implements the game entity interface because items are entities
  */
 public abstract class GameItem implements GameEntity {
 
+    // only changes when a pooled item is renewed
+    private long id = EntityIds.next();
     private Position position;
     private boolean blocksMovement;
     private String description;
@@ -24,6 +26,23 @@ public abstract class GameItem implements GameEntity {
         visible = false;
     }
 
+    /**
+     * Gives a recycled item a new id and hides it again. Only for an item that has left its
+     * world, see {@link game.Model.Factory.EntityPools}.
+     */
+    protected void renew() {
+        id = EntityIds.next();
+        visible = false;
+    }
+
+    /**
+     * returns the id of the item
+     */
+    @Override
+    public long getId() {
+        return id;
+    }
+
     /**
      * checks if the item is a healing potion
      */
@@ -36,7 +55,7 @@ public abstract class GameItem implements GameEntity {
      * @param description the textual description of the item
      */
     public GameItem(Position position, String description) {
-        this.position = new Position(position);
+        this.position = position;
         this.description = description;
     }
 
@@ -89,7 +108,7 @@ public abstract class GameItem implements GameEntity {
      */
     @Override
     public void setPosition(Position newPos) {
-        position = new Position(newPos);
+        position = newPos;
     }
 
     /**
@@ -109,18 +128,13 @@ public abstract class GameItem implements GameEntity {
     /**
      * equals method for game item
      * @param obj the other game item I want to compare
-     * @return true if they're equal in value
+     * @return true if they're the same item, that is if they have the same id
      */
     @Override
-    public boolean equals(Object obj) {
+    public final boolean equals(Object obj) {
         if (this == obj) return true;
         if (!(obj instanceof GameItem)) return false;
-
-        GameItem otherItem = (GameItem)obj;
-        return this.position.equals(otherItem.position) &&
-                this.blocksMovement == otherItem.blocksMovement &&
-                this.description.equals(otherItem.description) &&
-                this.visible == otherItem.visible;
+        return id == ((GameItem) obj).id;
     }
 
     /**
@@ -132,11 +146,11 @@ public abstract class GameItem implements GameEntity {
     }
 
     /**
-     * the specific hashcode for the object, in the future it will be better when you run in sets or maps
+     * hash of the id, so it does not change when the item moves or is revealed
      */
     @Override
-    public int hashCode() {
-        return Objects.hash(position, blocksMovement, description, visible);
+    public final int hashCode() {
+        return Long.hashCode(id);
     }
 
 
@@ -1,8 +1,7 @@
 package game.Model.items;
+import game.Model.core.RandomSource;
 import game.Model.map.Position;
-import java.util.Random;
 import game.Model.characters.PlayerCharacter;
-import java.util.Objects;
 
 /**
  * represents the health potions in the game
@@ -17,7 +16,7 @@ public class Potion extends GameItem implements Interactable {
      */
     public Potion(Position position) {
         super(position, "Health potion");
-        this.increaseAmount = new Random().nextInt(41) + 10; // 10–50
+        this.increaseAmount = RandomSource.current().nextInt(41) + 10; // 10–50
         this.isUsed = false;
         this.setVisible(false);
         this.setBlocksMovement(true);
@@ -79,19 +78,6 @@ public class Potion extends GameItem implements Interactable {
         return "P";
     }
 
-    /**
-     * checks if two potions are the same in value, overriding the object value method
-     */
-    @Override
-    public boolean equals(Object obj) {
-        if (!(obj instanceof Potion)) return false;
-        if (!super.equals(obj)) return false; // use GameItem.equals()
-
-        Potion otherP = (Potion) obj;
-        return this.increaseAmount == otherP.increaseAmount &&
-                this.isUsed == otherP.isUsed;
-    }
-
     /**
      * represents the class as a string
      */
@@ -99,14 +85,6 @@ public class Potion extends GameItem implements Interactable {
         return super.toString() + "amount: " + increaseAmount + "is it used? " + isUsed;
     }
 
-    /**
-     * gives the potion a unique hashcode
-     */
-    @Override
-    public int hashCode() {
-        return Objects.hash(super.hashCode(), increaseAmount, isUsed);
-    }
-
     /**
      * overrides the method in game item class
      */
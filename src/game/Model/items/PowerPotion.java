@@ -1,8 +1,7 @@
 package game.Model.items;
 import game.Model.characters.PlayerCharacter;
+import game.Model.core.RandomSource;
 import game.Model.map.Position;
-import java.util.Objects;
-import java.util.Random;
 
 /**
  * represents the power potions in the game
@@ -14,7 +13,7 @@ public class PowerPotion extends Potion{
      */
     public PowerPotion(Position position) {
         super(position);
-        this.setIncreaseAmount(new Random().nextInt(5) + 1); // 1-5
+        this.setIncreaseAmount(RandomSource.current().nextInt(5) + 1); // 1-5
         this.setDescription("Power Potion");
     }
 
@@ -23,19 +22,10 @@ public class PowerPotion extends Potion{
      */
     @Override
     protected void applyEffect(PlayerCharacter c) {
-        c.setPower(c.getPower() + getIncreaseAmount());
+        c.setPower(c.getBasePower() + getIncreaseAmount());
     }
 
 
-    /**
-     *  checks if the potions are the same
-     */
-    @Override
-    public boolean equals(Object obj) {
-        if (!(obj instanceof PowerPotion)) return false;
-        return super.equals(obj);
-    }
-
     /**
      * overrides the method in game item class
      */
@@ -57,14 +47,6 @@ public class PowerPotion extends Potion{
         return "Power potion" + "Amount: " + getIncreaseAmount() + "used? " + getPotionCondition();
     }
 
-    /**
-     * gives the potion a unique hashcode
-     */
-    @Override
-    public int hashCode() {
-        return Objects.hash(super.hashCode(), getIncreaseAmount(), getPotionCondition());
-    }
-
     /**
      * Returns the display symbol used for this item on the game map.
      */
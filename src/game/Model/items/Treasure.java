@@ -1,8 +1,8 @@
 package game.Model.items;
 import game.Model.characters.PlayerCharacter;
+import game.Model.core.RandomSource;
 import game.Model.map.Position;
-import java.util.Objects;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * represents the treasure in the game
@@ -22,6 +22,18 @@ public class Treasure extends GameItem implements Interactable {
         this.value = value;
     }
 
+    /**
+     * Makes a recycled treasure new again: a new id, hidden, not collected, at {@code position}
+     * and worth {@code value}.
+     */
+    public void reset(Position position, int value) {
+        renew();
+        setPosition(position);
+        this.setBlocksMovement(true);
+        this.value = value;
+        this.collected = false;
+    }
+
     /**
      * getter for the value field
      */
@@ -55,14 +67,14 @@ public class Treasure extends GameItem implements Interactable {
             return;
         }
 
-        Random rand = new Random();
+        RandomGenerator rand = RandomSource.current();
         int roll = rand.nextInt(6); // 0 to 5
 
         if (roll == 0) {
             c.addToInventory(new PowerPotion(this.getPosition()));
         }
         else if (roll == 1 || roll == 2 || roll == 3) { // 3/6 → 1/2 chance
-            int treasureValue = new Random().nextInt(201) + 100; // 100–300
+            int treasureValue = RandomSource.current().nextInt(201) + 100; // 100–300
             c.updateTreasurePoint(treasureValue);
         }
         else {               // Remaining 2/6 → 1/3 chance
@@ -91,19 +103,6 @@ public class Treasure extends GameItem implements Interactable {
     @Override
     public boolean isHealingPotion() {return false;}
 
-    /**
-     * checks if two treasures are the same in value
-     */
-    @Override
-    public boolean equals(Object obj) {
-        if (!(obj instanceof Treasure)) return false;
-        if (!super.equals(obj)) return false; // use GameItem.equals()
-
-        Treasure otherT = (Treasure)obj;
-        return this.value == otherT.value &&
-                this.collected == otherT.collected;
-    }
-
     /**
      * represents the class as string
      */
@@ -111,12 +110,4 @@ public class Treasure extends GameItem implements Interactable {
         return super.toString() + "value: " + value + " was it collected?" + collected;
     }
 
-    /**
-     * gives a unique hash code for the treasure object
-     */
-    @Override
-    public int hashCode() {
-        return Objects.hash(super.hashCode(), value, collected);
-    }
-
 }
@@ -1,7 +1,6 @@
 package game.Model.items;
 import game.Model.characters.PlayerCharacter;
 import game.Model.map.Position;
-import java.util.Objects;
 
 
 /**
@@ -42,23 +41,6 @@ public class Wall extends GameItem {
         return "Wall:" + getPosition();
     }
 
-    /**
-     * compares between two different walls if they're the same
-     */
-    @Override
-    public boolean equals(Object obj) {
-        if (!(obj instanceof Wall)) return false;
-        return super.equals(obj); // use GameItem.equals()
-    }
-
-    /**
-     * gives a uniques hash code for the wall object
-     */
-    @Override
-    public int hashCode() {
-        return Objects.hash(super.hashCode());
-    }
-
     public boolean pickUp(PlayerCharacter c) {
         return false;
     }
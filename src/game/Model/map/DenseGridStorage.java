@@ -0,0 +1,152 @@
+package game.Model.map;
+import game.Model.core.GameEntity;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Dense row-major storage for the board.
+ *
+ * <p>
+ * Cell {@code (row, col)} lives at index {@code row * cols + col}. The occupancy of every
+ * cell is kept in a flat {@code int[]}, and the entities in two reference arrays:
+ * {@code head} holds the first entity of the cell, and {@code overflow} is only allocated
+ * for the rare cells that hold more than one entity (a player standing on loot, for example).
+ * Nothing is allocated per cell for empty or single-entity cells.
+ * </p>
+ */
+class DenseGridStorage implements GridStorage {
+
+    private final int rows;
+    private final int cols;
+    private final int[] counts;
+    private final GameEntity[] head;
+    private final GameEntity[][] overflow;
+
+    DenseGridStorage(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.counts = new int[rows * cols];
+        this.head = new GameEntity[rows * cols];
+        this.overflow = new GameEntity[rows * cols][];
+    }
+
+    private int index(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return -1;
+        }
+        return row * cols + col;
+    }
+
+    @Override
+    public boolean add(int row, int col, GameEntity entity) {
+        int i = index(row, col);
+        if (i < 0) return false;
+
+        int n = counts[i];
+        if (n == 0) {
+            head[i] = entity;
+        } else {
+            GameEntity[] extra = overflow[i];
+            if (extra == null) {
+                extra = new GameEntity[2];
+                overflow[i] = extra;
+            } else if (extra.length < n) {
+                GameEntity[] grown = new GameEntity[extra.length * 2];
+                System.arraycopy(extra, 0, grown, 0, extra.length);
+                extra = grown;
+                overflow[i] = extra;
+            }
+            extra[n - 1] = entity;
+        }
+        counts[i] = n + 1;
+        return true;
+    }
+
+    @Override
+    public boolean remove(int row, int col, GameEntity entity) {
+        int i = index(row, col);
+        if (i < 0) return false;
+
+        int n = counts[i];
+        int found = find(i, n, entity, true);
+        if (found < 0) {
+            found = find(i, n, entity, false);
+        }
+        if (found < 0) return false;
+
+        GameEntity[] extra = overflow[i];
+        if (found == 0) {
+            // promote the first stacked entity to the head slot
+            head[i] = n > 1 ? extra[0] : null;
+            found = 1;
+        }
+        if (n > 1) {
+            System.arraycopy(extra, found, extra, found - 1, n - 1 - found);
+            extra[n - 2] = null;
+        }
+
+        counts[i] = n - 1;
+        if (n - 1 <= 1) {
+            overflow[i] = null;
+        }
+        return true;
+    }
+
+    /**
+     * finds the slot of the entity in cell i, 0 is the head and k is overflow[k - 1]
+     */
+    private int find(int i, int n, GameEntity entity, boolean identity) {
+        for (int k = 0; k < n; k++) {
+            GameEntity e = (k == 0) ? head[i] : overflow[i][k - 1];
+            if (identity ? e == entity : entity.equals(e)) {
+                return k;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public List<GameEntity> get(int row, int col) {
+        int i = index(row, col);
+        if (i < 0) return Collections.emptyList();
+
+        int n = counts[i];
+        if (n == 0) return Collections.emptyList();
+        if (n == 1) return List.of(head[i]);
+
+        GameEntity[] copy = new GameEntity[n];
+        copy[0] = head[i];
+        System.arraycopy(overflow[i], 0, copy, 1, n - 1);
+        return List.of(copy);
+    }
+
+    @Override
+    public int count(int row, int col) {
+        int i = index(row, col);
+        return i < 0 ? 0 : counts[i];
+    }
+
+    @Override
+    public void forEach(int fromRow, int fromCol, int toRow, int toCol, EntityVisitor visitor) {
+        for (int row = fromRow; row < toRow; row++) {
+            for (int col = fromCol; col < toCol; col++) {
+                int i = index(row, col);
+                if (i < 0 || counts[i] == 0) continue;
+
+                int n = counts[i];
+                visitor.visit(row, col, head[i]);
+                for (int k = 0; k < n - 1; k++) {
+                    visitor.visit(row, col, overflow[i][k]);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(counts, 0);
+        Arrays.fill(head, null);
+        Arrays.fill(overflow, null);
+    }}
@@ -0,0 +1,83 @@
+package game.Model.map;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The set of empty cells of a {@link GameMap}, with O(1) updates and O(1) uniform random sampling.
+ *
+ * <p>
+ * The free cells are kept packed ({@code row * cols + col}) at the front of {@link #cells}, and
+ * {@link #slots} remembers where every cell sits in that array ({@code -1} when it is occupied).
+ * Removing a cell swaps the last free cell into its slot, so both updates and sampling cost the
+ * same no matter how full the board is.
+ * </p>
+ *
+ * <p>
+ * The map updates the set while holding the lock of the cell's region, and cells of different
+ * regions change at the same time, so the set has its own monitor. The critical sections are a
+ * handful of array writes.
+ * </p>
+ */
+class FreeCellIndex {
+
+    private final int[] cells;
+    private final int[] slots;
+    private final int cols;
+    private final PositionTable positions;
+    private int size;
+
+    FreeCellIndex(int rows, int cols, PositionTable positions) {
+        this.cols = cols;
+        this.positions = positions;
+        this.cells = new int[rows * cols];
+        this.slots = new int[rows * cols];
+        reset();
+    }
+
+    /**
+     * marks every cell of the board as free
+     */
+    synchronized void reset() {
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = i;
+            slots[i] = i;
+        }
+        size = cells.length;
+    }
+
+    /**
+     * removes the cell from the free set, does nothing if it is already occupied
+     */
+    synchronized void occupy(int row, int col) {
+        int cell = row * cols + col;
+        int slot = slots[cell];
+        if (slot < 0) return;
+        int last = cells[--size];
+        cells[slot] = last;
+        slots[last] = slot;
+        slots[cell] = -1;
+    }
+
+    /**
+     * puts the cell back into the free set, does nothing if it is already free
+     */
+    synchronized void release(int row, int col) {
+        int cell = row * cols + col;
+        if (slots[cell] >= 0) return;
+        cells[size] = cell;
+        slots[cell] = size++;
+    }
+
+    /**
+     * returns a uniformly chosen free cell, or null if the board is full
+     */
+    synchronized Position sample(RandomGenerator rand) {
+        if (size == 0) return null;
+        int cell = cells[rand.nextInt(size)];
+        return positions.at(cell / cols, cell % cols);
+    }
+
+    synchronized int size() {
+        return size;
+    }
+}
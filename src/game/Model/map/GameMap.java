@@ -1,6 +1,9 @@
 package game.Model.map;
+import game.Controller.GameEvent;
 import game.Model.characters.*;
+import game.Model.core.EntityRegistry;
 import game.Model.core.GameEntity;
+import game.Model.core.RandomSource;
 import game.Model.engine.GameWorld;
 import game.Model.items.GameItem;
 import game.Model.items.Potion;
@@ -10,9 +13,7 @@ import game.Util.GameLogger;
 
 import javax.swing.text.html.parser.Entity;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.stream.Collectors;
+import java.util.random.RandomGenerator;
 
 
 
@@ -45,28 +46,131 @@ import java.util.stream.Collectors;
  */
 public class GameMap {
 
-    private Map <Position, List<GameEntity>> grid;
+    /**
+     * How the cells of the board are stored.
+     * <ul>
+     *   <li>{@code HASH} - the original sparse {@code HashMap<Position, List<GameEntity>>}.</li>
+     *   <li>{@code DENSE} - flat row-major arrays, one slot per cell.</li>
+     * </ul>
+     */
+    public enum StorageMode { HASH, DENSE }
+
+    /**
+     * How mutations of the board are synchronized.
+     * <ul>
+     *   <li>{@code GLOBAL} - one fair lock for the whole board.</li>
+     *   <li>{@code STRIPED} - one lock per region of the board, a move only takes the
+     *   one or two regions it touches.</li>
+     * </ul>
+     */
+    public enum LockMode { GLOBAL, STRIPED }
+
+    /**
+     * Snapshot of the lock counters of the map.
+     */
+    public static class LockStats {
+        private final int regions;
+        private final long acquisitions;
+        private final long contended;
+        private final long timeouts;
+        private final long optimisticReads;
+        private final long readRetries;
+
+        public LockStats(int regions, long acquisitions, long contended, long timeouts,
+                         long optimisticReads, long readRetries) {
+            this.regions = regions;
+            this.acquisitions = acquisitions;
+            this.contended = contended;
+            this.timeouts = timeouts;
+            this.optimisticReads = optimisticReads;
+            this.readRetries = readRetries;
+        }
+
+        /** number of lock regions the board is split into */
+        public int getRegions() { return regions; }
+
+        /** total lock acquisitions */
+        public long getAcquisitions() { return acquisitions; }
+
+        /** acquisitions that found the lock taken and had to wait */
+        public long getContended() { return contended; }
+
+        /** acquisitions that gave up after waiting for the timeout */
+        public long getTimeouts() { return timeouts; }
+
+        /** reads that were attempted without a lock */
+        public long getOptimisticReads() { return optimisticReads; }
+
+        /** optimistic reads that saw a concurrent write and were repeated under the lock */
+        public long getReadRetries() { return readRetries; }
+
+        @Override
+        public String toString() {
+            return String.format("regions=%d, acquisitions=%d, contended=%d, timeouts=%d, optimisticReads=%d, readRetries=%d",
+                    regions, acquisitions, contended, timeouts, optimisticReads, readRetries);
+        }
+    }
+
+    private static final long LOCK_TIMEOUT_MS = 200;
+
+    private final GridStorage grid;
+    private final StorageMode storageMode;
+    private final SpatialIndex index;
+    private final LockMode lockMode;
+    private final RegionLocks locks;
+    private final FreeCellIndex freeCells;
+    private final PathFinder pathFinder;
+    // the shared position of every cell
+    private final PositionTable positions;
+    // every entity on the board by id
+    private final EntityRegistry registry = new EntityRegistry();
+    // receives the change events of the map
+    private final GameWorld world;
     private int row;
     private int col;
-    private ReentrantLock mapLock = new ReentrantLock(true);
-
 
-    // In your GameMap.java, update the constructor:
 
+    /**
+     * Creates a random map using the dense storage and striped locking.
+     */
     public GameMap(int row, int col, PlayerCharacter player, GameWorld world) {
+        this(row, col, player, world, StorageMode.DENSE, LockMode.STRIPED);
+    }
+
+    /**
+     * Creates a random map using the given storage mode and striped locking.
+     */
+    public GameMap(int row, int col, PlayerCharacter player, GameWorld world, StorageMode storageMode) {
+        this(row, col, player, world, storageMode, LockMode.STRIPED);
+    }
+
+    /**
+     * Creates a random map using the given storage and lock modes.
+     */
+    public GameMap(int row, int col, PlayerCharacter player, GameWorld world, StorageMode storageMode, LockMode lockMode) {
         if (row < 10 || col < 10) {
             throw new IllegalArgumentException("Map must be at least 10x10");
         }
 
         this.row = row;
         this.col = col;
-        this.grid = new HashMap<>();
-        Random rand = new Random();
+        this.storageMode = storageMode;
+        this.positions = new PositionTable(row, col);
+        this.grid = (storageMode == StorageMode.HASH)
+                ? new HashGridStorage(positions)
+                : new DenseGridStorage(row, col);
+        this.lockMode = lockMode;
+        this.locks = new RegionLocks(row, col, lockMode);
+        this.index = new SpatialIndex(row, col, locks);
+        this.freeCells = new FreeCellIndex(row, col, positions);
+        this.pathFinder = new PathFinder(row, col);
+        this.world = world;
+        RandomGenerator rand = RandomSource.current();
 
         for (int r = 0; r < row; r++) {
             for (int c = 0; c < col; c++) {
                 double roll = rand.nextDouble();
-                Position pos = new Position(r, c);
+                Position pos = positions.at(r, c);
 
                 if (roll < 0.4) {
                     continue;
@@ -91,32 +195,22 @@ public class GameMap {
         }
 
         // Place player
-        Position playerPosition;
-        do {
-            int r = rand.nextInt(row);
-            int c = rand.nextInt(col);
-            playerPosition = new Position(r, c);
-        } while (!isPositionFree(playerPosition));
+        Position playerPosition = randomFreePosition(rand);
 
         addEntity(playerPosition, player);
         revealNearby(playerPosition);
     }
 
-    private boolean tryLockMap(long timeoutMS) {
-        try {
-            return mapLock.tryLock(timeoutMS, TimeUnit.MILLISECONDS);
-        }
-        catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return false;
-        }
+    /**
+     * returns the shared position of a cell, every entity on the board holds these; a cell outside
+     * the board gets a new position
+     */
+    public Position positionAt(int row, int col) {
+        return positions.at(row, col);
     }
 
-
-    private void unlockMap() {
-        if (mapLock.isHeldByCurrentThread()) {
-            mapLock.unlock();
-        }
+    private int regionOf(Position pos) {
+        return locks.regionOf(pos.getRow(), pos.getCol());
     }
 
 
@@ -125,59 +219,153 @@ public class GameMap {
      *
      */
     public boolean addEntity(Position pos, GameEntity entity) {
-        if (!tryLockMap(200))
+        if (pos == null || entity == null) return false;
+        int region = regionOf(pos);
+        if (!locks.lock(region, LOCK_TIMEOUT_MS))
             return false;
+        boolean added;
         try {
-            if (pos == null || entity == null) return false;
-            grid.putIfAbsent(pos, new ArrayList<>());
-            grid.get(pos).add(entity);
-            entity.setPosition(pos);
-            return true;
+            added = addUnlocked(pos, entity);
         }
         finally {
-            unlockMap();
+            locks.unlock(region);
         }
+        if (added) publish(new GameEvent.EntitySpawned(entity, pos));
+        return added;
     }
 
     /**
      * Removes a GameEntity from its position.
      */
     public boolean removeEntity(GameEntity entity) {
-        if (!tryLockMap(200))
+        if (entity == null || entity.getPosition() == null) return false;
+        Position pos = entity.getPosition();
+        int region = regionOf(pos);
+        if (!locks.lock(region, LOCK_TIMEOUT_MS))
             return false;
+        boolean removed;
         try {
-            if (entity == null || entity.getPosition() == null) return false;
-            Position pos = entity.getPosition();
-            List<GameEntity> entities = grid.get(pos);
-            if (entities != null && entities.remove(entity)) {
-                if (entities.isEmpty()) {
-                    grid.remove(pos);
-                }
-                return true;
-            }
-            return false;
+            removed = removeUnlocked(pos, entity);
+            // a move goes through removeUnlocked too but keeps the entity registered
+            if (removed) registry.unregister(entity.getId());
         }
         finally {
-            unlockMap();
+            locks.unlock(region);
+        }
+        if (removed) publish(new GameEvent.EntityRemoved(entity, pos));
+        return removed;
+    }
+
+    private void publish(GameEvent event) {
+        if (world != null) world.publish(event);
+    }
+
+    // the caller holds the region lock of pos
+    private boolean addUnlocked(Position pos, GameEntity entity) {
+        if (pos.getRow() < 0 || pos.getRow() >= row || pos.getCol() < 0 || pos.getCol() >= col) return false;
+        pos = positions.canonical(pos);
+        if (!grid.add(pos.getRow(), pos.getCol(), entity)) return false;
+        index.add(entity, pos.getRow(), pos.getCol());
+        registry.register(entity);
+        freeCells.occupy(pos.getRow(), pos.getCol());
+        if (entity instanceof Wall) {
+            pathFinder.setWall(pos.getRow(), pos.getCol(), true);
+        }
+        entity.setPosition(pos);
+        return true;
+    }
+
+    // the caller holds the region lock of pos
+    private boolean removeUnlocked(Position pos, GameEntity entity) {
+        if (!grid.remove(pos.getRow(), pos.getCol(), entity)) return false;
+        index.remove(entity, pos.getRow(), pos.getCol());
+        if (grid.count(pos.getRow(), pos.getCol()) == 0) {
+            freeCells.release(pos.getRow(), pos.getCol());
         }
+        if (entity instanceof Wall) {
+            pathFinder.setWall(pos.getRow(), pos.getCol(), false);
+        }
+        return true;
     }
 
 
     /**
-     * gets a list of all the entities on a specific position on them map
+     * gets a list of all the entities on a specific position on them map.
+     * The read does not block writers: it is done optimistically and only repeated
+     * under the region lock if a writer changed the region at the same time.
+     * The returned list is a snapshot and does not change afterwards.
      */
     public List <GameEntity> getEntities(Position pos) {
-        return grid.getOrDefault(pos, new ArrayList<>());
+        if (pos == null) return Collections.emptyList();
+        int r = pos.getRow();
+        int c = pos.getCol();
+        int region = locks.regionOf(r, c);
+
+        long stamp = locks.tryOptimisticRead(region);
+        if (stamp >= 0) {
+            try {
+                List<GameEntity> entities = grid.get(r, c);
+                if (locks.validate(region, stamp)) {
+                    return entities;
+                }
+            } catch (RuntimeException tornRead) {
+                locks.recordRetry();
+            }
+        }
+
+        locks.lockForRead(region);
+        try {
+            return grid.get(r, c);
+        } finally {
+            locks.unlockRead(region);
+        }
     }
 
 
     /**
-     * checks if the specific position is blocked
+     * checks if the specific position is blocked, without blocking writers (see {@link #getEntities(Position)})
      */
     public boolean isPositionFree(Position pos) {
-        List <GameEntity> entities = grid.get(pos);
-        if (entities == null) return true;
-        return false;
+        if (pos == null) return true;
+        int r = pos.getRow();
+        int c = pos.getCol();
+        int region = locks.regionOf(r, c);
+
+        long stamp = locks.tryOptimisticRead(region);
+        if (stamp >= 0) {
+            try {
+                int count = grid.count(r, c);
+                if (locks.validate(region, stamp)) {
+                    return count == 0;
+                }
+            } catch (RuntimeException tornRead) {
+                locks.recordRetry();
+            }
+        }
+
+        locks.lockForRead(region);
+        try {
+            return grid.count(r, c) == 0;
+        } finally {
+            locks.unlockRead(region);
+        }
+    }
+
+
+    /**
+     * Returns a uniformly chosen free cell of the board, or null if every cell is taken.
+     * The free cells are tracked on every add, remove and move, so the cost does not
+     * depend on how full the board is.
+     */
+    public Position randomFreePosition(RandomGenerator rand) {
+        return freeCells.sample(rand);
+    }
+
+    /**
+     * returns the number of free cells on the board
+     */
+    public int getFreeCellCount() {
+        return freeCells.size();
     }
 
 
@@ -188,53 +376,85 @@ public class GameMap {
 
         if (pos == null) return false;
 
-        for (Map.Entry<Position, List<GameEntity>> entry : grid.entrySet()) {
-            if (pos.distanceTo(entry.getKey()) <= 2) {
-                for (GameEntity entity : entry.getValue()) {
-                    if (!entity.getVisible()) {
-                        GameLogger.getInstance().log(" Revealed " + entity.getDisplaySymbol() + " at " + entry.getKey());
-                        entity.setVisible(true);
-                    }
-                }
+        for (GameEntity entity : queryRadius(pos, 2, GameEntity.class)) {
+            if (!entity.getVisible()) {
+                GameLogger.getInstance().log(" Revealed " + entity.getDisplaySymbol() + " at " + entity.getPosition());
+                entity.setVisible(true);
             }
         }
         return true;
     }
 
+    /**
+     * Returns every entity of the given type within a manhattan distance of {@code radius}
+     * from {@code center}. Only the part of the board around the center is searched, and
+     * each part is read optimistically like {@link #getEntities(Position)}.
+     *
+     * @param center the center of the search
+     * @param radius the maximal manhattan distance
+     * @param filter the type of entities to return, {@code GameEntity.class} for all of them
+     */
+    public <T> List<T> queryRadius(Position center, int radius, Class<T> filter) {
+        List<T> found = new ArrayList<>();
+        if (center == null || radius < 0) return found;
+        index.queryRadius(center.getRow(), center.getCol(), radius, filter, found);
+        return found;
+    }
+
+    /**
+     * Returns the entity of the given type that is closest (manhattan distance) to {@code from},
+     * or null if the board holds no such entity. Entities standing on {@code from} count as well.
+     */
+    public <T> T nearest(Position from, Class<T> filter) {
+        if (from == null) return null;
+        return index.nearest(from.getRow(), from.getCol(), filter);
+    }
+
 
     /**
-     * Moves a character to a position if possible
+     * Moves a character to a position if possible.
+     * Only the regions of the current and the next cell are locked.
      */
     public boolean moveEntity(GameEntity entity, String direction) {
-        if (!tryLockMap(200))
+        if (entity == null || direction == null || entity.getPosition() == null) {
             return false;
-        try {
-            if (entity == null || direction == null || entity.getPosition() == null) {
-                return false;
-            }
+        }
 
-            Position current = entity.getPosition();
-            Position next = switch (direction.toLowerCase()) {
-                case "up" -> new Position(current.getRow() - 1, current.getCol());
-                case "down" -> new Position(current.getRow() + 1, current.getCol());
-                case "left" -> new Position(current.getRow(), current.getCol() - 1);
-                case "right" -> new Position(current.getRow(), current.getCol() + 1);
-                default -> null;
-            };
-            if (next == null) {
-                System.out.println("Invalid direction: " + direction);
-                GameLogger.getInstance().log(entity.getDisplaySymbol() + " tried to move in invalid direction " + direction + " from " + current);
-                return false;
-            }
+        Position current = entity.getPosition();
+        Position next = switch (direction.toLowerCase()) {
+            case "up" -> positions.at(current.getRow() - 1, current.getCol());
+            case "down" -> positions.at(current.getRow() + 1, current.getCol());
+            case "left" -> positions.at(current.getRow(), current.getCol() - 1);
+            case "right" -> positions.at(current.getRow(), current.getCol() + 1);
+            default -> null;
+        };
+        if (next == null) {
+            System.out.println("Invalid direction: " + direction);
+            GameLogger.getInstance().log(entity.getDisplaySymbol() + " tried to move in invalid direction " + direction + " from " + current);
+            return false;
+        }
 
-            if (next.getRow() < 0 || next.getRow() >= row ||
-                    next.getCol() < 0 || next.getCol() >= col) {
-                System.out.println("Cannot move " + direction + ": outside map bounds!");
-                GameLogger.getInstance().log(entity.getDisplaySymbol() + " tried to move " + direction + " from " + current + " but hit map boundary ");
+        if (next.getRow() < 0 || next.getRow() >= row ||
+                next.getCol() < 0 || next.getCol() >= col) {
+            System.out.println("Cannot move " + direction + ": outside map bounds!");
+            GameLogger.getInstance().log(entity.getDisplaySymbol() + " tried to move " + direction + " from " + current + " but hit map boundary ");
+            return false;
+        }
+
+        int from = regionOf(current);
+        int to = regionOf(next);
+        if (!locks.lockPair(from, to, LOCK_TIMEOUT_MS)) {
+            GameLogger.getInstance().log(entity.getDisplaySymbol() + " could not move " + direction + " from " + current + ": map lock timed out");
+            return false;
+        }
+        boolean moved;
+        try {
+            // somebody else moved the entity while we were waiting for the locks
+            if (!current.equals(entity.getPosition())) {
                 return false;
             }
 
-            for (GameEntity e : getEntities(next)) {
+            for (GameEntity e : grid.get(next.getRow(), next.getCol())) {
                 if (e instanceof Wall || e instanceof Enemy) {
                     System.out.println("That space is blocked!");
                     GameLogger.getInstance().log(entity.getDisplaySymbol() + " tried to move " + direction + " from " + current + " but was blocked by " + e.getDisplaySymbol() + " at " + next);
@@ -242,26 +462,30 @@ public class GameMap {
                 }
             }
 
-            removeEntity(entity);
+            removeUnlocked(current, entity);
 
-            boolean added = addEntity(next, entity);
+            boolean added = addUnlocked(next, entity);
             if (added) {
                 GameLogger.getInstance().log(entity.getDisplaySymbol() + " moved from " + current + " to " + next);
             }
 
-            return added;
+            moved = added;
         }
         finally {
-            unlockMap();
+            locks.unlockPair(from, to);
         }
+        if (moved) publish(new GameEvent.EntityMoved(entity, current, next));
+        return moved;
     }
 
     /**
      * represents the map as a string
      */
     public String toString() {
+        Map<Position, List<GameEntity>> cells = new LinkedHashMap<>();
+        forEachEntity((r, c, entity) -> cells.computeIfAbsent(positions.at(r, c), k -> new ArrayList<>()).add(entity));
         return "GameMap{" +
-                "grid=" + grid +
+                "grid=" + cells +
                 '}';
     }
 
@@ -282,24 +506,24 @@ public class GameMap {
      * Used by restoreState(...) to start from a clean slate.
      */
     public void clearAll() {
-        if (!tryLockMap(200)) return;
+        if (!locks.lockAll(LOCK_TIMEOUT_MS)) return;
         try {
-            // clear every cell (keeping the same Position→List keys)…
-            for (List<GameEntity> cell : grid.values()) {
-                cell.clear();
-            }
+            grid.clear();
+            index.clear();
+            freeCells.reset();
+            pathFinder.clear();
+            registry.clear();
         } finally {
-            unlockMap();
+            locks.unlockAll();
         }
     }
 
     public void displayMap() {
         for (int r = 0; r < row; r++) {
             for (int c = 0; c < col; c++) {
-                Position pos = new Position(r, c);
-                List<GameEntity> entities = grid.get(pos);
+                List<GameEntity> entities = grid.get(r, c);
 
-                if (entities != null) {
+                if (!entities.isEmpty()) {
                     boolean foundVisible = false;
                     for (GameEntity entity : entities) {
                         if (entity != null && isEntityVisible(entity)) {
@@ -320,8 +544,65 @@ public class GameMap {
     }
 
 
+    /**
+     * returns a copy of every entity on the board; each region is copied under its lock, so the
+     * copy of a region is consistent, but the board may change between two regions
+     */
     public List<GameEntity> getAllEntities() {
-        return grid.values().stream().flatMap(List::stream).collect(Collectors.toList());
+        List<GameEntity> all = new ArrayList<>();
+        forEachEntity((r, c, entity) -> all.add(entity));
+        return all;
+    }
+
+    // walks the board region by region, holding the lock of the region while it is read
+    private void forEachEntity(GridStorage.EntityVisitor visitor) {
+        int size = locks.regionSize();
+        for (int region = 0; region < locks.regionCount(); region++) {
+            int top = locks.regionTop(region);
+            int left = locks.regionLeft(region);
+            locks.lockForRead(region);
+            try {
+                grid.forEach(top, left, Math.min(row, top + size), Math.min(col, left + size), visitor);
+            } finally {
+                locks.unlockRead(region);
+            }
+        }
+    }
+
+    /**
+     * returns the entity on the board with this id, or null; works whatever the entity
+     * looks like now, it only depends on the id
+     */
+    public GameEntity getEntity(long id) {
+        return registry.get(id);
+    }
+
+    /**
+     * returns the shared pathfinding service of the board
+     */
+    public PathFinder getPathFinder() {
+        return pathFinder;
+    }
+
+    /**
+     * returns the storage mode the board was created with
+     */
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    /**
+     * returns the lock mode the board was created with
+     */
+    public LockMode getLockMode() {
+        return lockMode;
+    }
+
+    /**
+     * returns the lock counters (acquisitions, contention, timeouts and optimistic reads) of the map
+     */
+    public LockStats getLockStats() {
+        return locks.stats();
     }
 
     public int getNumRows() {
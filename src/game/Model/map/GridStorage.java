@@ -0,0 +1,55 @@
+package game.Model.map;
+import game.Model.core.GameEntity;
+
+import java.util.List;
+
+/**
+ * Backing store for the cells of a {@link GameMap}.
+ *
+ * <p>
+ * Implementations only hold the entities of each cell, all the locking and
+ * the game rules (walls, bounds, logging) stay in {@link GameMap}.
+ * Cells are addressed by row and column so the hot path does not need a
+ * {@link Position} object for every lookup.
+ * </p>
+ */
+interface GridStorage {
+
+    /**
+     * Visitor used to walk every entity that is stored on the board.
+     */
+    interface EntityVisitor {
+        void visit(int row, int col, GameEntity entity);
+    }
+
+    /**
+     * adds the entity to the cell, returns false if the cell is outside the board
+     */
+    boolean add(int row, int col, GameEntity entity);
+
+    /**
+     * removes the entity from the cell, returns false if it was not there
+     */
+    boolean remove(int row, int col, GameEntity entity);
+
+    /**
+     * returns a snapshot of the entities of the cell, never null
+     */
+    List<GameEntity> get(int row, int col);
+
+    /**
+     * returns the amount of entities in the cell
+     */
+    int count(int row, int col);
+
+    /**
+     * calls the visitor for every entity in the rows {@code [fromRow, toRow)} and the columns
+     * {@code [fromCol, toCol)}, cell by cell; the caller holds the locks of these cells
+     */
+    void forEach(int fromRow, int fromCol, int toRow, int toCol, EntityVisitor visitor);
+
+    /**
+     * removes every entity from the board
+     */
+    void clear();
+}
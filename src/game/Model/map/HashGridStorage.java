@@ -0,0 +1,77 @@
+package game.Model.map;
+import game.Model.core.GameEntity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The original sparse storage: a map from {@link Position} to the list of entities on it.
+ * Only occupied cells are kept, every occupied cell owns its own {@link ArrayList}.
+ * The map itself is concurrent because, with striped locking, cells of different
+ * regions are added and removed at the same time. A cell list is only touched under
+ * the lock of its region. The keys are the shared positions of the board, so a lookup does
+ * not allocate.
+ */
+class HashGridStorage implements GridStorage {
+
+    private final Map<Position, List<GameEntity>> grid = new ConcurrentHashMap<>();
+    private final PositionTable positions;
+
+    HashGridStorage(PositionTable positions) {
+        this.positions = positions;
+    }
+
+    @Override
+    public boolean add(int row, int col, GameEntity entity) {
+        grid.computeIfAbsent(positions.at(row, col), k -> new ArrayList<>()).add(entity);
+        return true;
+    }
+
+    @Override
+    public boolean remove(int row, int col, GameEntity entity) {
+        Position pos = positions.at(row, col);
+        List<GameEntity> entities = grid.get(pos);
+        if (entities != null && entities.remove(entity)) {
+            if (entities.isEmpty()) {
+                grid.remove(pos);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public List<GameEntity> get(int row, int col) {
+        List<GameEntity> entities = grid.get(positions.at(row, col));
+        return entities == null ? Collections.emptyList() : List.copyOf(entities);
+    }
+
+    @Override
+    public int count(int row, int col) {
+        List<GameEntity> entities = grid.get(positions.at(row, col));
+        return entities == null ? 0 : entities.size();
+    }
+
+    @Override
+    public void forEach(int fromRow, int fromCol, int toRow, int toCol, EntityVisitor visitor) {
+        for (int r = fromRow; r < toRow; r++) {
+            for (int c = fromCol; c < toCol; c++) {
+                List<GameEntity> entities = grid.get(positions.at(r, c));
+                if (entities != null) {
+                    for (GameEntity entity : entities) {
+                        visitor.visit(r, c, entity);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        grid.clear();
+    }
+
+}
@@ -0,0 +1,196 @@
+package game.Model.map;
+
+import game.Model.core.GameEntity;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared pathfinding toward the players of a {@link GameMap}.
+ *
+ * <p>
+ * For every target (usually a player) a breadth-first distance field is computed over the
+ * board, walls being the only obstacles. An enemy then finds its next step by looking at the
+ * distances of its four neighbours, which is O(1) and needs no search of its own. Other enemies
+ * are not treated as obstacles, {@link GameMap#moveEntity(GameEntity, String)} still refuses
+ * blocked moves.
+ * </p>
+ *
+ * <p>
+ * A field is only rebuilt when its target stands on another cell or the walls changed since it
+ * was computed, so all enemies share one computation per player move. Fields are immutable
+ * snapshots: readers never lock, and one thread rebuilds a stale field while the others wait
+ * for it.
+ * </p>
+ */
+public class PathFinder {
+
+    private static final int UNREACHABLE = -1;
+
+    private final int rows;
+    private final int cols;
+    private final boolean[] walls;
+    private final AtomicInteger wallVersion = new AtomicInteger();
+    private final List<FlowField> fields = new CopyOnWriteArrayList<>();
+    private final LongAdder rebuilds = new LongAdder();
+
+    PathFinder(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.walls = new boolean[rows * cols];
+    }
+
+    /**
+     * records a wall change at the cell, called by the map under the region lock
+     */
+    void setWall(int row, int col, boolean wall) {
+        walls[row * cols + col] = wall;
+        wallVersion.incrementAndGet();
+    }
+
+    /**
+     * forgets every wall and every field, used when the board is wiped
+     */
+    void clear() {
+        Arrays.fill(walls, false);
+        fields.clear();
+        wallVersion.incrementAndGet();
+    }
+
+    /**
+     * Returns the direction ("up", "down", "left" or "right") of the next step on a shortest
+     * path from {@code from} to the target, or null if the target is unreachable or already
+     * reached.
+     */
+    public String nextStep(Position from, GameEntity target) {
+        if (from == null || target == null || target.getPosition() == null) return null;
+        if (!inBounds(from.getRow(), from.getCol())) return null;
+
+        Snapshot field = fieldFor(target).current(target.getPosition());
+        if (field == null) return null;
+
+        int r = from.getRow();
+        int c = from.getCol();
+        int here = field.dist[r * cols + c];
+        if (here <= 0) return null;
+
+        if (r > 0 && field.dist[(r - 1) * cols + c] == here - 1) return "up";
+        if (r < rows - 1 && field.dist[(r + 1) * cols + c] == here - 1) return "down";
+        if (c > 0 && field.dist[r * cols + c - 1] == here - 1) return "left";
+        if (c < cols - 1 && field.dist[r * cols + c + 1] == here - 1) return "right";
+        return null;
+    }
+
+    /**
+     * returns the length of the shortest path from the cell to the target, or -1 if there is none
+     */
+    public int distanceTo(Position from, GameEntity target) {
+        if (from == null || target == null || target.getPosition() == null) return UNREACHABLE;
+        if (!inBounds(from.getRow(), from.getCol())) return UNREACHABLE;
+        Snapshot field = fieldFor(target).current(target.getPosition());
+        return field == null ? UNREACHABLE : field.dist[from.getRow() * cols + from.getCol()];
+    }
+
+    /**
+     * returns how many distance fields were computed so far
+     */
+    public long getRebuildCount() {
+        return rebuilds.sum();
+    }
+
+    private boolean inBounds(int r, int c) {
+        return r >= 0 && r < rows && c >= 0 && c < cols;
+    }
+
+    private FlowField fieldFor(GameEntity target) {
+        for (FlowField field : fields) {
+            if (field.target == target) return field;
+        }
+        synchronized (fields) {
+            for (FlowField field : fields) {
+                if (field.target == target) return field;
+            }
+            FlowField field = new FlowField(target);
+            fields.add(field);
+            return field;
+        }
+    }
+
+    /**
+     * distances from one source cell, valid for one version of the walls
+     */
+    private static final class Snapshot {
+        final int source;
+        final int wallVersion;
+        final int[] dist;
+
+        Snapshot(int source, int wallVersion, int[] dist) {
+            this.source = source;
+            this.wallVersion = wallVersion;
+            this.dist = dist;
+        }
+    }
+
+    /**
+     * the distance field of one target
+     */
+    private final class FlowField {
+        final GameEntity target;
+        volatile Snapshot snapshot;
+
+        FlowField(GameEntity target) {
+            this.target = target;
+        }
+
+        Snapshot current(Position goal) {
+            if (!inBounds(goal.getRow(), goal.getCol())) return null;
+            int source = goal.getRow() * cols + goal.getCol();
+            int version = wallVersion.get();
+
+            Snapshot s = snapshot;
+            if (s != null && s.source == source && s.wallVersion == version) return s;
+
+            synchronized (this) {
+                s = snapshot;
+                if (s == null || s.source != source || s.wallVersion != version) {
+                    s = new Snapshot(source, version, bfs(source));
+                    snapshot = s;
+                    rebuilds.increment();
+                }
+                return s;
+            }
+        }
+    }
+
+    private int[] bfs(int source) {
+        int[] dist = new int[rows * cols];
+        Arrays.fill(dist, UNREACHABLE);
+        int[] queue = new int[rows * cols];
+        int head = 0;
+        int tail = 0;
+
+        dist[source] = 0;
+        queue[tail++] = source;
+        while (head < tail) {
+            int cell = queue[head++];
+            int r = cell / cols;
+            int c = cell % cols;
+            int next = dist[cell] + 1;
+            if (r > 0) tail = visit(cell - cols, next, dist, queue, tail);
+            if (r < rows - 1) tail = visit(cell + cols, next, dist, queue, tail);
+            if (c > 0) tail = visit(cell - 1, next, dist, queue, tail);
+            if (c < cols - 1) tail = visit(cell + 1, next, dist, queue, tail);
+        }
+        return dist;
+    }
+
+    private int visit(int cell, int d, int[] dist, int[] queue, int tail) {
+        if (dist[cell] != UNREACHABLE || walls[cell]) return tail;
+        dist[cell] = d;
+        queue[tail] = cell;
+        return tail + 1;
+    }
+}
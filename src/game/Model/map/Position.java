@@ -1,6 +1,5 @@
 package game.Model.map;
 import java.io.Serializable;
-import java.util.Objects;
 
 /**
  * Represents a coordinate on the game map using row and column values.
@@ -12,13 +11,19 @@ import java.util.Objects;
  *
  * <p>
  * Distance is calculated using the Manhattan method.
+ *
+ * <p>
+ * A position never changes, so it is shared instead of copied. Every {@link GameMap} keeps one
+ * instance per cell ({@link GameMap#positionAt(int, int)}), which is what the entities on it
+ * hold; the hash is computed once, so positions are cheap hash keys.
  */
-public class Position implements Serializable {
+public final class Position implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
-    private int row;
-    private int col;
+    private final int row;
+    private final int col;
+    private final transient int hash;
 
     /**
      * Construct a new position based on the specified row and col
@@ -28,14 +33,14 @@ public class Position implements Serializable {
     public Position(int row, int col) {
         this.row = row;
         this.col = col;
+        this.hash = 31 * row + col;
     }
 
     /**
-     * Copy constructor for Position
+     * Copy constructor for Position, not needed any more since a position never changes
      */
     public Position(Position other) {
-        this.row = other.row;
-        this.col = other.col;
+        this(other.row, other.col);
     }
 
     /**
@@ -74,11 +79,8 @@ public class Position implements Serializable {
      */
     @Override
     public boolean equals(Object obj) {
-        boolean ans = false;
-        if (obj instanceof Position) {
-            ans = (this.row == ((Position)obj).row) && (this.col == ((Position)obj).col);
-        }
-        return ans;
+        if (this == obj) return true;
+        return obj instanceof Position other && row == other.row && col == other.col;
     }
 
     /**
@@ -91,6 +93,11 @@ public class Position implements Serializable {
     }
 
     @Override public int hashCode() {
-        return Objects.hash(row, col);
+        return hash;
+    }
+
+    // the hash is not serialized, a read position is built again so it gets one
+    private Object readResolve() {
+        return new Position(row, col);
     }
 }
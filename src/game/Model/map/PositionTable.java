@@ -0,0 +1,50 @@
+package game.Model.map;
+
+/**
+ * One shared {@link Position} for every cell of a board, made when the board is made.
+ *
+ * <p>
+ * Looking a cell up is an array read, so code that walks the board or steps from cell to cell
+ * does not allocate. The table is never written after construction and can be read from any
+ * thread. Cells outside the board are not in the table and get a new position.
+ * </p>
+ */
+class PositionTable {
+
+    private final Position[] cells;
+    private final int rows;
+    private final int cols;
+
+    PositionTable(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = new Position[rows * cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                cells[r * cols + c] = new Position(r, c);
+            }
+        }
+    }
+
+    /**
+     * returns the shared position of the cell, or a new one if it is outside the board
+     */
+    Position at(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return new Position(row, col);
+        }
+        return cells[row * cols + col];
+    }
+
+    /**
+     * returns the shared position equal to {@code pos}, or {@code pos} itself if it is outside the board
+     */
+    Position canonical(Position pos) {
+        int row = pos.getRow();
+        int col = pos.getCol();
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return pos;
+        }
+        return cells[row * cols + col];
+    }
+}
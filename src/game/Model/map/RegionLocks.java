@@ -0,0 +1,245 @@
+package game.Model.map;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The locks that guard the cells of a {@link GameMap}.
+ *
+ * <p>
+ * In {@link GameMap.LockMode#GLOBAL} mode there is a single fair lock for the whole board,
+ * exactly like the original {@code mapLock}. In {@link GameMap.LockMode#STRIPED} mode the board
+ * is split into square regions of {@link #REGION_SIZE} cells, each with its own lock, so
+ * mutations in different parts of the board do not wait for each other.
+ * </p>
+ *
+ * <p>
+ * A region is always a whole number of {@link SpatialIndex} buckets, so every bucket of the
+ * spatial index is guarded by exactly one region lock. When two regions are needed (a move
+ * across a region border) they are always taken in ascending index order to avoid deadlocks.
+ * </p>
+ *
+ * <p>
+ * Every region also has a version number for lock-free readers (a seqlock). A writer makes the
+ * version odd when it takes the lock and even again when it releases it. A reader remembers the
+ * version with {@link #tryOptimisticRead(int)}, reads without locking, and then checks with
+ * {@link #validate(int, long)} that no writer touched the region in the meantime. If the check
+ * fails the reader reads again under {@link #lockForRead(int)}. Writers never wait for
+ * optimistic readers.
+ * </p>
+ */
+class RegionLocks {
+
+    static final int REGION_SIZE = SpatialIndex.BUCKET_SIZE * 2;
+
+    private final ReentrantLock[] locks;
+    private final int regionSize;
+    private final int regionCols;
+    private final int regionRows;
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder contended = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder optimisticReads = new LongAdder();
+    private final LongAdder readRetries = new LongAdder();
+    private final AtomicLongArray versions;
+
+    RegionLocks(int rows, int cols, GameMap.LockMode mode) {
+        if (mode == GameMap.LockMode.GLOBAL) {
+            this.regionSize = Math.max(rows, cols);
+            this.locks = new ReentrantLock[] { new ReentrantLock(true) };
+        } else {
+            this.regionSize = REGION_SIZE;
+            int count = ((rows + REGION_SIZE - 1) / REGION_SIZE) * ((cols + REGION_SIZE - 1) / REGION_SIZE);
+            this.locks = new ReentrantLock[count];
+            for (int i = 0; i < count; i++) {
+                locks[i] = new ReentrantLock();
+            }
+        }
+        this.regionRows = (rows + regionSize - 1) / regionSize;
+        this.regionCols = (cols + regionSize - 1) / regionSize;
+        this.versions = new AtomicLongArray(locks.length);
+    }
+
+    /**
+     * returns the region of the cell, cells outside the board are clamped to the closest region
+     */
+    int regionOf(int row, int col) {
+        int r = Math.min(regionRows - 1, Math.max(0, row / regionSize));
+        int c = Math.min(regionCols - 1, Math.max(0, col / regionSize));
+        return r * regionCols + c;
+    }
+
+    int regionCount() {
+        return locks.length;
+    }
+
+    /**
+     * returns the first row of the region
+     */
+    int regionTop(int region) {
+        return (region / regionCols) * regionSize;
+    }
+
+    /**
+     * returns the first column of the region
+     */
+    int regionLeft(int region) {
+        return (region % regionCols) * regionSize;
+    }
+
+    /**
+     * returns how many rows and columns a region spans, the last ones may be cut by the board
+     */
+    int regionSize() {
+        return regionSize;
+    }
+
+    /**
+     * locks one region for writing, waiting at most {@code timeoutMS}
+     */
+    boolean lock(int region, long timeoutMS) {
+        if (!acquire(region, timeoutMS)) {
+            return false;
+        }
+        if (locks[region].getHoldCount() == 1) {
+            versions.incrementAndGet(region); // odd: a write is in progress
+        }
+        return true;
+    }
+
+    /**
+     * locks one region without starting a write, used by readers whose optimistic read failed;
+     * it waits as long as it takes, a reader must never read the region unlocked
+     */
+    void lockForRead(int region) {
+        acquisitions.increment();
+        ReentrantLock lock = locks[region];
+        if (!lock.tryLock()) {
+            contended.increment();
+            lock.lock();
+        }
+    }
+
+    private boolean acquire(int region, long timeoutMS) {
+        ReentrantLock lock = locks[region];
+        acquisitions.increment();
+        if (lock.tryLock()) {
+            return true;
+        }
+        contended.increment();
+        try {
+            if (lock.tryLock(timeoutMS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        timeouts.increment();
+        return false;
+    }
+
+    /**
+     * starts an optimistic read of the region
+     * @return a stamp for {@link #validate(int, long)}, negative if a write is in progress
+     */
+    long tryOptimisticRead(int region) {
+        optimisticReads.increment();
+        long version = versions.get(region);
+        return (version & 1L) == 0 ? version : -1L;
+    }
+
+    /**
+     * checks that no write happened in the region since the stamp was taken
+     */
+    boolean validate(int region, long stamp) {
+        // keep the plain reads of the reader before the second version read
+        VarHandle.acquireFence();
+        if (stamp >= 0 && versions.get(region) == stamp) {
+            return true;
+        }
+        readRetries.increment();
+        return false;
+    }
+
+    /**
+     * counts an optimistic read that had to be retried for another reason (a torn read threw)
+     */
+    void recordRetry() {
+        readRetries.increment();
+    }
+
+    /**
+     * releases a region taken with {@link #lockForRead(int)}
+     */
+    void unlockRead(int region) {
+        ReentrantLock lock = locks[region];
+        if (lock.isHeldByCurrentThread()) {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * locks two regions in ascending order, if the second one fails the first is released
+     */
+    boolean lockPair(int a, int b, long timeoutMS) {
+        if (a == b) {
+            return lock(a, timeoutMS);
+        }
+        int first = Math.min(a, b);
+        int second = Math.max(a, b);
+        if (!lock(first, timeoutMS)) {
+            return false;
+        }
+        if (!lock(second, timeoutMS)) {
+            unlock(first);
+            return false;
+        }
+        return true;
+    }
+
+    void unlock(int region) {
+        ReentrantLock lock = locks[region];
+        if (lock.isHeldByCurrentThread()) {
+            if (lock.getHoldCount() == 1) {
+                versions.incrementAndGet(region); // even again: the write is visible
+            }
+            lock.unlock();
+        }
+    }
+
+    void unlockPair(int a, int b) {
+        unlock(a);
+        if (a != b) {
+            unlock(b);
+        }
+    }
+
+    /**
+     * locks every region in ascending order, used for operations on the whole board
+     */
+    boolean lockAll(long timeoutMS) {
+        for (int i = 0; i < locks.length; i++) {
+            if (!lock(i, timeoutMS)) {
+                for (int j = i - 1; j >= 0; j--) {
+                    unlock(j);
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void unlockAll() {
+        for (int i = locks.length - 1; i >= 0; i--) {
+            unlock(i);
+        }
+    }
+
+    GameMap.LockStats stats() {
+        return new GameMap.LockStats(locks.length, acquisitions.sum(), contended.sum(), timeouts.sum(),
+                optimisticReads.sum(), readRetries.sum());
+    }
+}
@@ -0,0 +1,219 @@
+package game.Model.map;
+import game.Model.core.GameEntity;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Uniform bucket grid over the board, used for radius and nearest-neighbour queries.
+ *
+ * <p>
+ * The board is cut into square buckets of {@link #BUCKET_SIZE} x {@link #BUCKET_SIZE} cells,
+ * and every bucket keeps the entities that stand inside it. A query only visits the buckets
+ * that overlap the searched area, so its cost depends on the area and not on the board size.
+ * Distances are Manhattan distances, like {@link Position#distanceTo(Position)}.
+ * </p>
+ *
+ * <p>
+ * The index is updated by {@link GameMap} while it holds the lock of the region the cell
+ * belongs to. Regions are made of whole buckets, so a bucket is only ever changed by one
+ * thread at a time. Queries read each bucket optimistically against the version of its
+ * region and re-read it under the region lock if a writer got in the way, so every bucket
+ * is seen consistently without blocking writers.
+ * </p>
+ */
+class SpatialIndex {
+
+    static final int BUCKET_SIZE = 8;
+
+    private final int bucketRows;
+    private final int bucketCols;
+    private final GameEntity[][] entities;
+    private final int[][] cells; // packed row * cols + col of every entry, parallel to entities
+    private final int[] counts;
+    private final int cols;
+    private final RegionLocks locks;
+
+    SpatialIndex(int rows, int cols, RegionLocks locks) {
+        this.cols = cols;
+        this.locks = locks;
+        this.bucketRows = (rows + BUCKET_SIZE - 1) / BUCKET_SIZE;
+        this.bucketCols = (cols + BUCKET_SIZE - 1) / BUCKET_SIZE;
+        this.entities = new GameEntity[bucketRows * bucketCols][];
+        this.cells = new int[bucketRows * bucketCols][];
+        this.counts = new int[bucketRows * bucketCols];
+    }
+
+    private int bucketOf(int row, int col) {
+        return (row / BUCKET_SIZE) * bucketCols + (col / BUCKET_SIZE);
+    }
+
+    /**
+     * registers the entity at the given cell
+     */
+    void add(GameEntity entity, int row, int col) {
+        int b = bucketOf(row, col);
+        int n = counts[b];
+        if (entities[b] == null) {
+            entities[b] = new GameEntity[4];
+            cells[b] = new int[4];
+        } else if (n == entities[b].length) {
+            entities[b] = Arrays.copyOf(entities[b], n * 2);
+            cells[b] = Arrays.copyOf(cells[b], n * 2);
+        }
+        entities[b][n] = entity;
+        cells[b][n] = row * cols + col;
+        counts[b] = n + 1;
+    }
+
+    /**
+     * unregisters the entity from the given cell
+     */
+    void remove(GameEntity entity, int row, int col) {
+        int b = bucketOf(row, col);
+        int n = counts[b];
+        GameEntity[] bucket = entities[b];
+        for (int i = 0; i < n; i++) {
+            if (bucket[i] == entity) {
+                // swap the last entry into the hole
+                bucket[i] = bucket[n - 1];
+                cells[b][i] = cells[b][n - 1];
+                bucket[n - 1] = null;
+                counts[b] = n - 1;
+                return;
+            }
+        }
+    }
+
+    void clear() {
+        Arrays.fill(counts, 0);
+        Arrays.fill(entities, null);
+        Arrays.fill(cells, null);
+    }
+
+    /**
+     * adds to {@code out} every entity of the given type within {@code radius} of the cell
+     */
+    <T> void queryRadius(int row, int col, int radius, Class<T> type, List<T> out) {
+        int fromBr = Math.max(0, (row - radius) / BUCKET_SIZE);
+        int toBr = Math.min(bucketRows - 1, (row + radius) / BUCKET_SIZE);
+        int fromBc = Math.max(0, (col - radius) / BUCKET_SIZE);
+        int toBc = Math.min(bucketCols - 1, (col + radius) / BUCKET_SIZE);
+
+        for (int br = fromBr; br <= toBr; br++) {
+            for (int bc = fromBc; bc <= toBc; bc++) {
+                int b = br * bucketCols + bc;
+                int region = locks.regionOf(br * BUCKET_SIZE, bc * BUCKET_SIZE);
+                int mark = out.size();
+
+                long stamp = locks.tryOptimisticRead(region);
+                if (stamp >= 0) {
+                    try {
+                        collect(b, row, col, radius, type, out);
+                        if (locks.validate(region, stamp)) continue;
+                    } catch (RuntimeException tornRead) {
+                        locks.recordRetry();
+                    }
+                    out.subList(mark, out.size()).clear();
+                }
+
+                locks.lockForRead(region);
+                try {
+                    collect(b, row, col, radius, type, out);
+                } finally {
+                    locks.unlockRead(region);
+                }
+            }
+        }
+    }
+
+    private <T> void collect(int b, int row, int col, int radius, Class<T> type, List<T> out) {
+        GameEntity[] bucket = entities[b];
+        int[] packed = cells[b];
+        int n = (bucket == null || packed == null) ? 0 : Math.min(counts[b], Math.min(bucket.length, packed.length));
+        for (int i = 0; i < n; i++) {
+            GameEntity e = bucket[i];
+            if (e == null || !type.isInstance(e)) continue;
+            int p = packed[i];
+            if (Math.abs(p / cols - row) + Math.abs(p % cols - col) <= radius) {
+                out.add(type.cast(e));
+            }
+        }
+    }
+
+    /**
+     * returns the entity of the given type closest to the cell, or null if there is none.
+     * Buckets are searched in rings around the cell, and the search stops as soon as no
+     * bucket further out can hold anything closer than the best match so far.
+     */
+    <T> T nearest(int row, int col, Class<T> type) {
+        int homeBr = row / BUCKET_SIZE;
+        int homeBc = col / BUCKET_SIZE;
+        int maxRing = Math.max(Math.max(homeBr, bucketRows - 1 - homeBr), Math.max(homeBc, bucketCols - 1 - homeBc));
+
+        Object[] best = new Object[1];
+        int bestDist = Integer.MAX_VALUE;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int br = homeBr - ring; br <= homeBr + ring; br++) {
+                if (br < 0 || br >= bucketRows) continue;
+                boolean edgeRow = (br == homeBr - ring || br == homeBr + ring);
+                for (int bc = homeBc - ring; bc <= homeBc + ring; bc++) {
+                    if (bc < 0 || bc >= bucketCols) continue;
+                    if (!edgeRow && bc != homeBc - ring && bc != homeBc + ring) continue;
+
+                    int b = br * bucketCols + bc;
+                    int region = locks.regionOf(br * BUCKET_SIZE, bc * BUCKET_SIZE);
+                    Object previous = best[0];
+
+                    long stamp = locks.tryOptimisticRead(region);
+                    if (stamp >= 0) {
+                        try {
+                            int d = closest(b, row, col, type, bestDist, best);
+                            if (locks.validate(region, stamp)) {
+                                bestDist = d;
+                                continue;
+                            }
+                        } catch (RuntimeException tornRead) {
+                            locks.recordRetry();
+                        }
+                        best[0] = previous;
+                    }
+
+                    locks.lockForRead(region);
+                    try {
+                        bestDist = closest(b, row, col, type, bestDist, best);
+                    } finally {
+                        locks.unlockRead(region);
+                    }
+                }
+            }
+            // every bucket in the next ring is at least ring * BUCKET_SIZE + 1 cells away
+            if (best[0] != null && bestDist <= ring * BUCKET_SIZE) {
+                break;
+            }
+        }
+        return type.cast(best[0]);
+    }
+
+    /**
+     * looks for an entity of the type closer than {@code bestDist} in bucket b,
+     * stores it in {@code best[0]} and returns the new best distance
+     */
+    private int closest(int b, int row, int col, Class<?> type, int bestDist, Object[] best) {
+        GameEntity[] bucket = entities[b];
+        int[] packed = cells[b];
+        int n = (bucket == null || packed == null) ? 0 : Math.min(counts[b], Math.min(bucket.length, packed.length));
+        for (int i = 0; i < n; i++) {
+            GameEntity e = bucket[i];
+            if (e == null || !type.isInstance(e)) continue;
+            int p = packed[i];
+            int d = Math.abs(p / cols - row) + Math.abs(p % cols - col);
+            if (d < bestDist) {
+                bestDist = d;
+                best[0] = e;
+            }
+        }
+        return bestDist;
+    }
+}
@@ -13,13 +13,13 @@ public class EnemySnapshot implements Serializable {
 
     public EnemySnapshot(Enemy e) {
         this.typeName = e.getClass().getSimpleName();
-        this.position = new Position(e.getPosition());
+        this.position = e.getPosition();
         this.health   = e.getHealth();
-        this.power    = e.getPower();
+        this.power    = e.getBasePower();
     }
 
     public String   getTypeName()   { return typeName; }
-    public Position getPosition()   { return new Position(position); }
+    public Position getPosition()   { return position; }
     public int      getHealth()     { return health; }
     public int      getPower()      { return power; }
 }
@@ -25,12 +25,12 @@ public class GameMemento implements Serializable {
         this.enemyStates   = new ArrayList<>(enemyStates);
         this.itemStates    = new ArrayList<>(itemStates);
         this.lastAction    = lastAction;
-        this.lastActionPos = (lastActionPos != null ? new Position(lastActionPos) : null);
+        this.lastActionPos = lastActionPos;
     }
 
     public PlayerSnapshot       getPlayerState()    { return playerState; }
     public List<EnemySnapshot>  getEnemyStates()    { return Collections.unmodifiableList(enemyStates); }
     public List<ItemSnapshot>   getItemStates()     { return Collections.unmodifiableList(itemStates); }
     public String               getLastAction()     { return lastAction; }
-    public Position             getLastActionPos()  { return lastActionPos == null ? null : new Position(lastActionPos); }
+    public Position             getLastActionPos()  { return lastActionPos; }
 }
\ No newline at end of file
@@ -24,12 +24,12 @@ public class ItemSnapshot implements Serializable {
                         Position pos, boolean visible) {
         this.index    = index;
         this.typeName = typeName;
-        this.pos      = new Position(pos);
+        this.pos      = pos;
         this.visible  = visible;
     }
 
     public int getIndex()       { return index; }
     public String getTypeName() { return typeName; }
-    public Position getPosition() { return new Position(pos); }
+    public Position getPosition() { return pos; }
     public boolean isVisible()  { return visible; }
 }
@@ -29,11 +29,11 @@ public class PlayerSnapshot implements Serializable {
     public PlayerSnapshot(PlayerCharacter p) {
         this.typeName       = p.getClass().getSimpleName();
         this.playerName     = p.getName();
-        this.pos            = new Position(p.getPosition());
+        this.pos            = p.getPosition();
         this.health         = p.getHealth();
-        this.power          = p.getPower();
+        this.power          = p.getBasePower();
         this.treasurePoints = p.getTreasurePoints();
-        this.evasionChance  = p.getEvasionChance();
+        this.evasionChance  = p.getBaseEvasionChance();
 
         // Capture inventory items
         this.inventoryItemTypes = new ArrayList<>();
@@ -54,7 +54,7 @@ public class PlayerSnapshot implements Serializable {
     {
         this.typeName       = typeName;
         this.playerName     = playerName;
-        this.pos            = new Position(pos);
+        this.pos            = pos;
         this.health         = health;
         this.power          = power;
         this.treasurePoints = treasurePoints;
@@ -64,7 +64,7 @@ public class PlayerSnapshot implements Serializable {
 
     public String   getTypeName()        { return typeName; }
     public String   getPlayerName()      { return playerName; }
-    public Position getPosition()        { return new Position(pos); }
+    public Position getPosition()        { return pos; }
     public int      getHealth()          { return health; }
     public int      getPower()           { return power; }
     public int      getTreasurePoints()  { return treasurePoints; }
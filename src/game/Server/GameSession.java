@@ -0,0 +1,81 @@
+package game.Server;
+
+import game.Model.engine.GameWorld;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * One game hosted by a {@link SessionHost}: a world, the driver of its player and its latency numbers.
+ *
+ * <ul>
+ *   <li>queue latency - from the moment the tick was due until a worker started it.</li>
+ *   <li>tick latency - from the moment the tick was due until it finished, what a player feels.</li>
+ * </ul>
+ */
+public class GameSession {
+
+    private final int id;
+    private final GameWorld world;
+    private final SessionDriver driver;
+
+    // true while a tick of the session is queued or running, a session never runs two ticks at once
+    final AtomicBoolean pending = new AtomicBoolean();
+    volatile long dueNanos;
+    volatile boolean closed;
+
+    private final LatencyHistogram queueLatency = new LatencyHistogram();
+    private final LatencyHistogram tickLatency = new LatencyHistogram();
+    private final LongAdder skippedTicks = new LongAdder();
+
+    GameSession(int id, GameWorld world, SessionDriver driver) {
+        this.id = id;
+        this.world = world;
+        this.driver = driver;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public GameWorld getWorld() {
+        return world;
+    }
+
+    SessionDriver getDriver() {
+        return driver;
+    }
+
+    void recordTick(long queuedNanos, long totalNanos) {
+        queueLatency.record(queuedNanos);
+        tickLatency.record(totalNanos);
+    }
+
+    void recordSkipped() {
+        skippedTicks.increment();
+    }
+
+    public LatencyHistogram getQueueLatency() {
+        return queueLatency;
+    }
+
+    public LatencyHistogram getTickLatency() {
+        return tickLatency;
+    }
+
+    /**
+     * returns how many ticks were dropped because the previous tick of the session had not finished yet
+     */
+    public long getSkippedTicks() {
+        return skippedTicks.sum();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public String toString() {
+        return "Session " + id + " [tick " + tickLatency + ", skipped=" + getSkippedTicks() + "]";
+    }
+}
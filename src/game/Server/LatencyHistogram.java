@@ -0,0 +1,91 @@
+package game.Server;
+
+/**
+ * Small latency histogram with power-of-two buckets from 1 microsecond up.
+ *
+ * <p>
+ * Percentiles are approximate: they return the upper bound of the bucket the percentile falls in,
+ * which is at most twice the real value. Recording is cheap and never allocates. The methods are
+ * synchronized so a worker can record while another thread reads.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 32;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * records one latency in nanoseconds
+     */
+    public synchronized void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        long micros = nanos / 1_000;
+        int bucket = micros == 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        counts[bucket]++;
+        count++;
+        total += nanos;
+        if (nanos > max) max = nanos;
+    }
+
+    /**
+     * adds every sample of {@code other} to this histogram
+     */
+    public void add(LatencyHistogram other) {
+        long[] otherCounts;
+        long otherCount;
+        long otherTotal;
+        long otherMax;
+        synchronized (other) {
+            otherCounts = other.counts.clone();
+            otherCount = other.count;
+            otherTotal = other.total;
+            otherMax = other.max;
+        }
+        synchronized (this) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += otherCounts[i];
+            }
+            count += otherCount;
+            total += otherTotal;
+            max = Math.max(max, otherMax);
+        }
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getMeanNanos() {
+        return count == 0 ? 0 : total / count;
+    }
+
+    public synchronized long getMaxNanos() {
+        return max;
+    }
+
+    /**
+     * returns the latency below which {@code percentile} percent of the samples fall
+     */
+    public synchronized long getPercentileNanos(double percentile) {
+        if (count == 0) return 0;
+        long rank = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(max, (1L << i) * 1_000);
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("n=%d, mean=%.3fms, p50=%.3fms, p99=%.3fms, max=%.3fms",
+                count, getMeanNanos() / 1e6, getPercentileNanos(50) / 1e6, getPercentileNanos(99) / 1e6, max / 1e6);
+    }
+}
@@ -0,0 +1,12 @@
+package game.Server;
+
+import game.Model.engine.GameWorld;
+
+/**
+ * Feeds the player input of a hosted session.
+ * Called by the {@link SessionHost} once per tick, inside the world of the session,
+ * just before the enemies of that tick act.
+ */
+public interface SessionDriver {
+    void onTick(GameWorld world);
+}
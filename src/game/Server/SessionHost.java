@@ -0,0 +1,195 @@
+package game.Server;
+
+import game.Model.engine.GameWorld;
+import game.Util.GameLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs many game sessions on one fixed set of threads.
+ *
+ * <p>
+ * Every session is a {@link GameWorld} in {@link GameWorld.EngineMode#HOSTED} mode. One
+ * dispatcher thread wakes up every tick and queues a tick for every session, starting at a
+ * different session each time; a fixed pool of workers takes the ticks in FIFO order. A tick
+ * runs the driver of the player and then the due enemies of the world, for at most the
+ * per-session tick budget, so one busy session cannot hold a worker for long and every session
+ * gets its turn. A session whose previous tick is still queued or running skips the new one,
+ * and the skip is counted.
+ * </p>
+ *
+ * <p>
+ * The worlds should be made with {@link GameWorld#create()}: their periodic world events run on
+ * the shared scheduler, the enemy ticks run here.
+ * </p>
+ */
+public class SessionHost implements AutoCloseable {
+
+    private final long tickMs;
+    private final long tickBudgetNanos;
+    private final int workers;
+    private final ExecutorService workerPool;
+    private final ScheduledExecutorService dispatcher;
+    private final List<GameSession> sessions = new CopyOnWriteArrayList<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final LongAdder ticks = new LongAdder();
+    private int rotation;
+
+    /**
+     * @param workers         number of worker threads, usually one per core
+     * @param tickMs          tick period of every session
+     * @param tickBudgetNanos how long the enemies of one session may run in one tick
+     */
+    public SessionHost(int workers, long tickMs, long tickBudgetNanos) {
+        this.workers = workers;
+        this.tickMs = tickMs;
+        this.tickBudgetNanos = tickBudgetNanos;
+
+        AtomicInteger count = new AtomicInteger();
+        this.workerPool = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "SessionWorker-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "SessionDispatcher");
+            t.setDaemon(true);
+            return t;
+        });
+        dispatcher.scheduleAtFixedRate(this::dispatch, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts hosting a world. The world must be initialized and have its map, and must not be
+     * started yet; the host switches it to {@link GameWorld.EngineMode#HOSTED} and starts it.
+     *
+     * @param driver the player input of the session, may be null
+     */
+    public GameSession open(GameWorld world, SessionDriver driver) {
+        world.setEngineMode(GameWorld.EngineMode.HOSTED);
+        world.runInWorld(world::startGame);
+        GameSession session = new GameSession(nextId.getAndIncrement(), world, driver);
+        sessions.add(session);
+        return session;
+    }
+
+    /**
+     * stops hosting the session and stops its world
+     */
+    public void close(GameSession session) {
+        session.closed = true;
+        sessions.remove(session);
+        session.getWorld().runInWorld(session.getWorld()::stopGame);
+    }
+
+    // runs on the dispatcher thread only
+    private void dispatch() {
+        long now = System.nanoTime();
+        List<GameSession> snapshot = sessions;
+        int n = snapshot.size();
+        if (n == 0) return;
+
+        int start = Math.floorMod(rotation++, n);
+        for (int k = 0; k < n; k++) {
+            GameSession session;
+            try {
+                session = snapshot.get((start + k) % n);
+            } catch (IndexOutOfBoundsException closedMeanwhile) {
+                break;
+            }
+            if (!session.pending.compareAndSet(false, true)) {
+                session.recordSkipped();
+                continue;
+            }
+            session.dueNanos = now;
+            try {
+                workerPool.execute(() -> runTick(session));
+            } catch (RejectedExecutionException e) {
+                session.pending.set(false);
+                return;
+            }
+        }
+    }
+
+    private void runTick(GameSession session) {
+        long started = System.nanoTime();
+        try {
+            if (session.closed) return;
+            GameWorld world = session.getWorld();
+            SessionDriver driver = session.getDriver();
+            if (driver != null) {
+                world.runInWorld(() -> driver.onTick(world));
+            }
+            world.tick(world.getClock().millis(), tickBudgetNanos);
+            ticks.increment();
+        } catch (RuntimeException e) {
+            GameLogger.getInstance().log("Session " + session.getId() + " tick failed: " + e.getMessage());
+        } finally {
+            long done = System.nanoTime();
+            session.recordTick(started - session.dueNanos, done - session.dueNanos);
+            session.pending.set(false);
+        }
+    }
+
+    public List<GameSession> getSessions() {
+        return new ArrayList<>(sessions);
+    }
+
+    /**
+     * returns the tick latency of every session merged together
+     */
+    public LatencyHistogram getTickLatency() {
+        LatencyHistogram all = new LatencyHistogram();
+        for (GameSession session : sessions) {
+            all.add(session.getTickLatency());
+        }
+        return all;
+    }
+
+    /**
+     * returns how many session ticks ran
+     */
+    public long getTickCount() {
+        return ticks.sum();
+    }
+
+    /**
+     * returns how many session ticks were skipped because the session was still busy
+     */
+    public long getSkippedTicks() {
+        long skipped = 0;
+        for (GameSession session : sessions) {
+            skipped += session.getSkippedTicks();
+        }
+        return skipped;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public long getTickMs() {
+        return tickMs;
+    }
+
+    /**
+     * stops every session and the threads of the host
+     */
+    @Override
+    public void close() {
+        dispatcher.shutdownNow();
+        for (GameSession session : getSessions()) {
+            close(session);
+        }
+        workerPool.shutdownNow();
+    }
+}
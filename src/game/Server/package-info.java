@@ -0,0 +1 @@
+package game.Server;
\ No newline at end of file
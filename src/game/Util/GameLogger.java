@@ -10,40 +10,89 @@ import java.util.concurrent.LinkedBlockingQueue;
 
 
 /**
- * GameLogger is a singleton service that collects log messages from all game threads
- * and writes them, in order, to a log file. Internally it uses a BlockingQueue<String>
+ * GameLogger is a service that collects log messages from all game threads
+ * and writes them, in order, to a log file. Internally it uses a BlockingQueue
  * to store log lines; a dedicated writer thread polls this queue and flushes to disk.
+ *
+ * <p>
+ * Every game world has its own logger (its sink), and {@link #getInstance()} returns the
+ * logger bound to the current thread with {@link #bind(GameLogger)}, or the default
+ * {@code game_events.log} logger when none is bound. All the loggers share one queue and
+ * one writer thread, so many worlds in one process do not mean many writer threads.
+ * </p>
  */
 public class GameLogger {
-    // Single, shared BlockingQueue for all threads to enqueue their messages.
-    private final BlockingQueue<String> queue = new LinkedBlockingQueue<>();
-    private final Thread writerThread;
+    // Single, shared BlockingQueue for all loggers to enqueue their messages.
+    private static final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+    private static final ThreadLocal<GameLogger> current = new ThreadLocal<>();
+    private static final Thread writerThread;
+
     private volatile boolean running = true;
-    private final String logFilePath = "game_events.log";
+    private final String logFilePath;
+    private BufferedWriter writer; // only used by the writer thread
+
+    /**
+     * a line for a logger, a null line closes the file of the logger
+     */
+    private static class Entry {
+        final GameLogger sink;
+        final String line;
 
+        Entry(GameLogger sink, String line) {
+            this.sink = sink;
+            this.line = line;
+        }
+    }
 
-    private GameLogger() {
+    static {
         writerThread = new Thread(() -> {
-            try (BufferedWriter writer = new BufferedWriter(new FileWriter(logFilePath, true))) {
-                while (running || !queue.isEmpty()) {
-                    String line = queue.take();
-                    writer.write(line);
-                    writer.newLine();
-                    writer.flush();
+            try {
+                while (true) {
+                    Entry entry = queue.take();
+                    entry.sink.write(entry.line);
                 }
-            } catch (IOException | InterruptedException e) {
+            } catch (InterruptedException e) {
                 e.printStackTrace();
             }
         }, "GameLogger-Writer");
         writerThread.start();
     }
 
+    /**
+     * Creates a logger that appends to the given file.
+     *
+     * @param logFilePath the file to append to, or null to drop every message
+     */
+    public GameLogger(String logFilePath) {
+        this.logFilePath = logFilePath;
+    }
+
     private static class Holder {
-        private static final GameLogger INSTANCE = new GameLogger();
+        private static final GameLogger INSTANCE = new GameLogger("game_events.log");
     }
 
+    /**
+     * returns the logger bound to the current thread, or the default logger
+     */
     public static GameLogger getInstance() {
-        return Holder.INSTANCE;
+        GameLogger bound = current.get();
+        return bound != null ? bound : Holder.INSTANCE;
+    }
+
+    /**
+     * Makes {@code logger} the logger of the current thread.
+     *
+     * @param logger the logger to bind, or null to go back to the default logger
+     * @return the logger that was bound before, or null
+     */
+    public static GameLogger bind(GameLogger logger) {
+        GameLogger previous = current.get();
+        if (logger == null) {
+            current.remove();
+        } else {
+            current.set(logger);
+        }
+        return previous;
     }
 
 
@@ -53,18 +102,42 @@ public class GameLogger {
      * @param message The content describing the event (e.g. "Player moved ...").
      */
     public void log(String message) {
-        if (!running) return;
+        if (!running || logFilePath == null) return;
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
         String fullLine = "[" + timestamp + "] " + message;
-        queue.offer(fullLine);
+        queue.offer(new Entry(this, fullLine));
+    }
+
+    // called on the writer thread only
+    private void write(String line) {
+        try {
+            if (line == null) {
+                if (writer != null) {
+                    writer.close();
+                    writer = null;
+                }
+                return;
+            }
+            if (writer == null) {
+                writer = new BufferedWriter(new FileWriter(logFilePath, true));
+            }
+            writer.write(line);
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
     }
 
     /**
      * Signals the logger to stop after it has drained all pending messages.
      */
     public void shutdown() {
+        if (!running) return;
         running = false;
-        writerThread.interrupt();
+        if (logFilePath != null) {
+            queue.offer(new Entry(this, null));
+        }
     }
 
 
@@ -6,7 +6,19 @@ import java.io.IOException;
 import java.net.URL;
 
 public class SoundPlayer {
+    // turned off by runtimes without audio (headless, servers, CI)
+    private static volatile boolean enabled = true;
+
+    public static void setEnabled(boolean enabled) {
+        SoundPlayer.enabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
     public static void play(String filename) {
+        if (!enabled) return;
         URL url = SoundPlayer.class.getClassLoader().getResource("sounds/" + filename);
         try {
             AudioInputStream ais;
@@ -1,5 +1,6 @@
 package game.View.gui;
 
+import game.Controller.GameEvent;
 import game.Controller.GameObserver;
 import game.Model.engine.GameWorld;
 import game.Model.combat.BattleResult;
@@ -42,16 +43,21 @@ public class BattleLogPanel extends JPanel implements GameObserver {
     }
 
     @Override
-    public void onModelChanged() {
-        List<BattleResult> list = world.getBattleResults();
-        if (list.size() > model.getRowCount()) {
-            BattleResult r = list.get(list.size() - 1);
-            model.addRow(new Object[]{
-                    r.getEnemyName(),
-                    r.getRounds(),
-                    r.getDmgByPlayer(),
-                    r.getDmgByEnemy()
-            });
+    public void onEvents(List<GameEvent> events) {
+        for (GameEvent e : events) {
+            if (e instanceof GameEvent.CombatResolved combat) {
+                BattleResult r = combat.getResult();
+                model.addRow(new Object[]{
+                        r.getEnemyName(),
+                        r.getRounds(),
+                        r.getDmgByPlayer(),
+                        r.getDmgByEnemy()
+                });
+            }
         }
     }
+
+    @Override
+    public void onModelChanged() {
+    }
 }
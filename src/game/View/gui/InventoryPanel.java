@@ -9,6 +9,7 @@ import game.Model.engine.GameWorld;
 import game.Model.items.GameItem;
 import game.Model.characters.PlayerCharacter;
 import game.Controller.GameObserver;
+import game.Controller.PlayerCommand;
 
 public class InventoryPanel extends JPanel implements GameObserver {
     private final GameWorld world;
@@ -28,7 +29,7 @@ public class InventoryPanel extends JPanel implements GameObserver {
         useBtn.addActionListener(e -> {
             GameItem itm = list.getSelectedValue();
             if (itm != null) {
-                world.useItem(itm);
+                world.submit(new PlayerCommand.UseItem(itm));
             }
         });
 
@@ -38,6 +38,8 @@ public class MainPanel extends JPanel {
 
         GameWorld world = GameWorld.getInstance();
         GameMap map = world.getMap();
+        // the panels redraw at most once per frame, on the event dispatch thread
+        world.getNotificationBus().setExecutor(SwingUtilities::invokeLater);
 
         magicWaveLabel.setFont(magicWaveLabel.getFont().deriveFont(Font.BOLD, 16f));
         magicWaveLabel.setForeground(Color.RED);
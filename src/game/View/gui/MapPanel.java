@@ -16,6 +16,8 @@ import game.Model.map.GameMap;
 import game.Model.map.Position;
 import game.Model.core.GameEntity;
 import game.Model.combat.Combatant;
+import game.Model.combat.CombatPrediction;
+import game.Model.combat.CombatPredictor;
 import game.Model.engine.GameWorld.Action;
 
 public class MapPanel extends JPanel implements GameObserver {
@@ -27,6 +29,10 @@ public class MapPanel extends JPanel implements GameObserver {
     private final int rows, cols;
     private final JButton[][] cells;
     private final ImageIcon unknownIcon = loadResource("images/unknown.png");
+    private final transient CombatPredictor predictor = new CombatPredictor();
+    // the last hover prediction and what it was made for, only touched on the event thread
+    private String oddsKey;
+    private String oddsText;
 
     public MapPanel(GameWorld world, GameController controller) {
         this.world = world;
@@ -48,13 +54,20 @@ public class MapPanel extends JPanel implements GameObserver {
     private void initGrid() {
         for (int r = 0; r < rows; r++) {
             for (int c = 0; c < cols; c++) {
-                JButton btn = new JButton();
+                Position pos = map.positionAt(r, c);
+                JButton btn = new JButton() {
+                    @Override
+                    public String getToolTipText(MouseEvent e) {
+                        String odds = oddsAt(pos);
+                        String text = super.getToolTipText(e);
+                        return odds == null || text == null ? text : "<html>" + text + "<br>" + odds + "</html>";
+                    }
+                };
                 btn.setPreferredSize(new Dimension(TILE_SIZE, TILE_SIZE));
                 btn.setBorderPainted(false);
                 btn.setOpaque(true);
                 btn.setBackground(Color.DARK_GRAY);
 
-                Position pos = new Position(r, c);
                 btn.addMouseListener(new MouseAdapter() {
                     @Override
                     public void mouseClicked(MouseEvent e) {
@@ -89,7 +102,7 @@ public class MapPanel extends JPanel implements GameObserver {
                 cell.setToolTipText(null);
                 cell.setBackground(Color.DARK_GRAY);
 
-                Position pos = new Position(r, c);
+                Position pos = map.positionAt(r, c);
                 List<GameEntity> ents = map.getEntities(pos);
 
                 GameEntity toDraw = null;
@@ -176,6 +189,33 @@ public class MapPanel extends JPanel implements GameObserver {
         popup.show(src, x, y);
     }
 
+    /**
+     * returns the odds of the player against the visible enemy at {@code pos}, or null if there is none
+     */
+    private String oddsAt(Position pos) {
+        if (world.getPlayers().isEmpty()) return null;
+        PlayerCharacter player = world.getPlayers().get(0);
+        Enemy enemy = null;
+        for (GameEntity e : map.getEntities(pos)) {
+            if (e.getVisible() && e instanceof Enemy en && !en.isDead()) {
+                enemy = en;
+                break;
+            }
+        }
+        if (enemy == null || player.isDead()) return null;
+
+        // hovering over the same cell again should not play 10,000 duels again
+        String key = enemy.getId() + ":" + enemy.getHealth() + ":" + player.getHealth() + ":" + player.getPower();
+        if (!key.equals(oddsKey)) {
+            CombatPrediction p = predictor.predict(player, enemy);
+            oddsKey = key;
+            oddsText = String.format("Win %.0f%% &middot; lose %.0f%% &middot; expected HP loss %.0f (p90 %d)",
+                    p.getWinProbability() * 100, p.getLossProbability() * 100,
+                    p.getDmgByDefender().getMean(), p.getDmgByDefender().getPercentile(0.9));
+        }
+        return oddsText;
+    }
+
     private ImageIcon loadEntityIcon(GameEntity e) {
 
         String cls = e.getClass().getSimpleName().toLowerCase();
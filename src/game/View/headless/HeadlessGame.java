@@ -0,0 +1,293 @@
+package game.View.headless;
+
+import game.Controller.GameController;
+import game.Model.Factory.PlayerFactory;
+import game.Model.characters.Enemy;
+import game.Model.characters.PlayerCharacter;
+import game.Model.core.RandomSource;
+import game.Model.engine.CommandQueue;
+import game.Model.engine.GameWorld;
+import game.Model.engine.TickEngine;
+import game.Model.engine.VirtualClock;
+import game.Model.engine.WallClock;
+import game.Model.items.GameItem;
+import game.Model.map.GameMap;
+import game.Model.map.Position;
+import game.Util.SoundPlayer;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the game without Swing and without audio, for CI, servers and capacity tests.
+ *
+ * <p>
+ * The world and the map are built from command-line parameters, a bot plays the player by
+ * "clicking" a neighbouring cell through the {@link GameController} once per player tick (so it
+ * moves, picks up and attacks exactly like a user would), and at the end the throughput of the
+ * run is printed: player ticks/s, engine ticks/s, combats/s and enemy actions/s.
+ * </p>
+ *
+ * <p>
+ * Parameters, all optional:
+ * </p>
+ * <ul>
+ *   <li>{@code --rows=40 --cols=40} - board size.</li>
+ *   <li>{@code --player=Warrior} - Warrior, Mage or Archer.</li>
+ *   <li>{@code --bot=random} or {@code --bot=script:UURRDDLL} - random walk, or a script of
+ *   U/D/L/R steps that is repeated.</li>
+ *   <li>{@code --seconds=10} - how long to run.</li>
+ *   <li>{@code --player-tick-ms=100} - how often the bot acts.</li>
+ *   <li>{@code --engine=SCHEDULED|TICK}, {@code --executor=PLATFORM|VIRTUAL},
+ *   {@code --storage=DENSE|HASH}, {@code --locks=STRIPED|GLOBAL} - engine and map modes.</li>
+ *   <li>{@code --clock=wall|virtual} - a virtual clock plays the seconds of game time as fast as
+ *   the CPU allows, in the HOSTED engine mode; the rates are then per second of game time.</li>
+ *   <li>{@code --seed=42} - seed of every random roll; with a virtual clock the run plays
+ *   the same again. The seed of a run is printed with its report.</li>
+ *   <li>{@code --verbose} - keep the console output of the game.</li>
+ * </ul>
+ */
+public class HeadlessGame {
+
+    private final Map<String, String> options;
+    private GameWorld world;
+    private GameController controller;
+    private PlayerCharacter player;
+    private String script;
+    private int scriptIndex;
+
+    public HeadlessGame(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Report report = new HeadlessGame(parseArgs(args)).run();
+        System.out.println(report);
+        System.exit(0);
+    }
+
+    /**
+     * turns {@code --key=value} and {@code --flag} arguments into a map
+     */
+    public static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    private String option(String key, String fallback) {
+        return options.getOrDefault(key, fallback);
+    }
+
+    private int intOption(String key, int fallback) {
+        return Integer.parseInt(option(key, String.valueOf(fallback)));
+    }
+
+    /**
+     * builds the world, plays for the configured time and returns the throughput of the run
+     */
+    public Report run() throws InterruptedException {
+        SoundPlayer.setEnabled(false);
+
+        PrintStream console = System.out;
+        if (!options.containsKey("verbose")) {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+        try {
+            setUp();
+            return play();
+        } finally {
+            if (world != null) {
+                world.stopGame();
+            }
+            System.setOut(console);
+        }
+    }
+
+    private void setUp() {
+        int rows = intOption("rows", 40);
+        int cols = intOption("cols", 40);
+
+        world = GameWorld.getInstance();
+        if (options.containsKey("seed")) {
+            world.getRandom().setSeed(Long.parseLong(option("seed", "0")));
+        }
+        boolean virtual = option("clock", "wall").equalsIgnoreCase("virtual");
+        world.setClock(virtual ? new VirtualClock() : new WallClock());
+        world.setEngineMode(GameWorld.EngineMode.valueOf(option("engine", virtual ? "HOSTED" : "SCHEDULED").toUpperCase()));
+        world.setExecutorMode(GameWorld.ExecutorMode.valueOf(option("executor", "PLATFORM").toUpperCase()));
+
+        player = PlayerFactory.instantiateByType(option("player", "Warrior"), "Headless");
+        List<PlayerCharacter> players = List.of(player);
+        List<Enemy> enemies = new ArrayList<>();
+        List<GameItem> items = new ArrayList<>();
+        world.initialize(players, enemies, items);
+
+        GameMap map = new GameMap(rows, cols, player, world,
+                GameMap.StorageMode.valueOf(option("storage", "DENSE").toUpperCase()),
+                GameMap.LockMode.valueOf(option("locks", "STRIPED").toUpperCase()));
+        world.setMap(map);
+        controller = new GameController(world);
+
+        String bot = option("bot", "random");
+        if (bot.startsWith("script:")) {
+            script = bot.substring("script:".length()).toUpperCase();
+            if (script.isEmpty()) {
+                throw new IllegalArgumentException("Empty player script");
+            }
+        } else if (!bot.equals("random")) {
+            throw new IllegalArgumentException("Unknown bot: " + bot);
+        }
+    }
+
+    private Report play() throws InterruptedException {
+        long seconds = intOption("seconds", 10);
+        long playerTickMs = intOption("player-tick-ms", 100);
+
+        world.startGame();
+        long start = System.nanoTime();
+        long end = start + seconds * 1_000_000_000L;
+        long playerTicks = 0;
+        double elapsed;
+
+        if (world.getClock() instanceof VirtualClock clock) {
+            long gameStart = clock.millis();
+            long gameEnd = gameStart + seconds * 1000L;
+            while (clock.millis() < gameEnd && !player.isDead()) {
+                Position target = nextTarget();
+                if (target != null) {
+                    // wait for the move, the game time must not run ahead of the player
+                    controller.onLeftClick(target).join();
+                }
+                playerTicks++;
+                world.runFor(Math.min(playerTickMs, gameEnd - clock.millis()));
+            }
+            elapsed = (clock.millis() - gameStart) / 1e3;
+        } else {
+            while (System.nanoTime() < end && !player.isDead()) {
+                Position target = nextTarget();
+                if (target != null) {
+                    controller.onLeftClick(target);
+                }
+                playerTicks++;
+                Thread.sleep(playerTickMs);
+            }
+            elapsed = (System.nanoTime() - start) / 1e9;
+        }
+
+        double wallElapsed = (System.nanoTime() - start) / 1e9;
+        TickEngine.TickStats tickStats = world.getTickStats();
+        return new Report(elapsed, wallElapsed, playerTicks, tickStats == null ? 0 : tickStats.getTicks(),
+                world.getBattleResults().size(), world.getEnemyActionCount(),
+                world.getEnemies().size(), player.isDead(), tickStats, world.getCommandQueue(), world.getRandom().getSeed());
+    }
+
+    /**
+     * the neighbouring cell the bot clicks next, or null if it stays
+     */
+    private Position nextTarget() {
+        Position pos = player.getPosition();
+        char step;
+        if (script != null) {
+            step = script.charAt(scriptIndex);
+            scriptIndex = (scriptIndex + 1) % script.length();
+        } else {
+            step = "UDLR".charAt(RandomSource.current().nextInt(4));
+        }
+
+        GameMap map = world.getMap();
+        Position target = switch (step) {
+            case 'U' -> map.positionAt(pos.getRow() - 1, pos.getCol());
+            case 'D' -> map.positionAt(pos.getRow() + 1, pos.getCol());
+            case 'L' -> map.positionAt(pos.getRow(), pos.getCol() - 1);
+            case 'R' -> map.positionAt(pos.getRow(), pos.getCol() + 1);
+            default -> null;
+        };
+        if (target == null || target.getRow() < 0 || target.getRow() >= map.getNumRows()
+                || target.getCol() < 0 || target.getCol() >= map.getNumCols()) {
+            return null;
+        }
+        return target;
+    }
+
+    /**
+     * Throughput of one headless run.
+     */
+    public static class Report {
+        private final double seconds;
+        private final double wallSeconds;
+        private final long playerTicks;
+        private final long engineTicks;
+        private final long combats;
+        private final long enemyActions;
+        private final int enemies;
+        private final boolean playerDied;
+        private final TickEngine.TickStats tickStats;
+        private final CommandQueue commands;
+        private final long seed;
+
+        /**
+         * @param seconds     game time of the run, the rates are per second of it
+         * @param wallSeconds real time the run took
+         */
+        public Report(double seconds, double wallSeconds, long playerTicks, long engineTicks, long combats, long enemyActions,
+                      int enemies, boolean playerDied, TickEngine.TickStats tickStats, CommandQueue commands, long seed) {
+            this.seconds = seconds;
+            this.wallSeconds = wallSeconds;
+            this.playerTicks = playerTicks;
+            this.engineTicks = engineTicks;
+            this.combats = combats;
+            this.enemyActions = enemyActions;
+            this.enemies = enemies;
+            this.playerDied = playerDied;
+            this.tickStats = tickStats;
+            this.commands = commands;
+            this.seed = seed;
+        }
+
+        public double getSeconds() { return seconds; }
+        public double getWallSeconds() { return wallSeconds; }
+        public double getPlayerTicksPerSecond() { return playerTicks / seconds; }
+        public double getEngineTicksPerSecond() { return engineTicks / seconds; }
+        public double getCombatsPerSecond() { return combats / seconds; }
+        public double getEnemyActionsPerSecond() { return enemyActions / seconds; }
+        public boolean isPlayerDead() { return playerDied; }
+        public long getSeed() { return seed; }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("=== Headless run ===\n");
+            sb.append(String.format("Duration:        %.1fs%s%n", seconds, playerDied ? " (player died)" : ""));
+            if (Math.abs(wallSeconds - seconds) > 0.5) {
+                sb.append(String.format("Wall time:       %.1fs (%.0fx real time)%n", wallSeconds, seconds / wallSeconds));
+            }
+            sb.append(String.format("Seed:            %d%n", seed));
+            sb.append(String.format("Enemies:         %d%n", enemies));
+            sb.append(String.format("Player ticks/s:  %.1f%n", getPlayerTicksPerSecond()));
+            sb.append(String.format("Engine ticks/s:  %.1f%n", getEngineTicksPerSecond()));
+            sb.append(String.format("Combats/s:       %.2f%n", getCombatsPerSecond()));
+            sb.append(String.format("Enemy actions/s: %.1f%n", getEnemyActionsPerSecond()));
+            if (tickStats != null) {
+                sb.append("Tick engine:     ").append(tickStats).append('\n');
+            }
+            if (commands != null) {
+                sb.append("Player commands: ").append(commands).append('\n');
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1 @@
+package game.View.headless;
\ No newline at end of file
@@ -1,3 +1,4 @@
 module ElayGame {
     requires java.desktop;
+    requires jdk.management;
 }
\ No newline at end of file
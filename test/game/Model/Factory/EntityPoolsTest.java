@@ -0,0 +1,83 @@
+package game.Model.Factory;
+
+import game.Model.characters.Enemy;
+import game.Model.characters.Goblin;
+import game.Model.characters.StatStore;
+import game.Model.engine.GameWorld;
+import game.Model.items.Treasure;
+import game.Model.map.Position;
+import game.Util.GameLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class EntityPoolsTest {
+
+    private GameWorld world;
+
+    @BeforeEach
+    void setUp() {
+        world = GameWorld.create(new GameLogger(null));
+        // empty pools, so the objects recycled here are the ones taken back
+        EntityPools.setCapacity(0);
+        EntityPools.setCapacity(EntityPools.DEFAULT_CAPACITY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        world.stopGame();
+    }
+
+    @Test
+    void recycledTreasureComesBackAsANewTreasure() {
+        Treasure spent = EntityPools.obtainTreasure(new Position(1, 1), 100);
+        long oldId = spent.getId();
+        EntityPools.recycle(spent);
+
+        Treasure fresh = EntityPools.obtainTreasure(new Position(2, 3), 250);
+        assertSame(spent, fresh);
+        assertNotEquals(oldId, fresh.getId());
+        assertEquals(new Position(2, 3), fresh.getPosition());
+        assertEquals(250, fresh.getValue());
+    }
+
+    @Test
+    void recycledEnemyLeavesItsWorldAndComesBackReset() {
+        world.runInWorld(() -> {
+            Enemy dead = EntityPools.obtainEnemy("Goblin", Goblin::new);
+            long oldId = dead.getId();
+            dead.setPosition(new Position(4, 4));
+            dead.setHealth(0);
+            EntityPools.recycle(dead);
+            assertEquals(StatStore.NO_WORLD, dead.getWorldId());
+
+            Enemy fresh = EntityPools.obtainEnemy("Goblin", Goblin::new);
+            assertSame(dead, fresh);
+            assertNotEquals(oldId, fresh.getId());
+            assertEquals(50, fresh.getHealth());
+            assertFalse(fresh.isDead());
+            assertNull(fresh.getPosition());
+            assertEquals(world.getId(), fresh.getWorldId());
+            assertNull(fresh.getModifiers());
+        });
+    }
+
+    @Test
+    void zeroCapacityTurnsPoolingOff() {
+        EntityPools.setCapacity(0);
+        try {
+            Treasure spent = EntityPools.obtainTreasure(new Position(0, 0), 1);
+            EntityPools.recycle(spent);
+            assertNotEquals(spent.getId(), EntityPools.obtainTreasure(new Position(0, 0), 1).getId());
+            assertFalse(spent == EntityPools.obtainTreasure(new Position(0, 0), 1));
+        } finally {
+            EntityPools.setCapacity(EntityPools.DEFAULT_CAPACITY);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package game.Model.characters;
+
+import game.Model.decorator.CharacterDecorator;
+import game.Model.decorator.DecoratorManager;
+import game.Model.engine.GameWorld;
+import game.Model.engine.VirtualClock;
+import game.Util.GameLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatStoreTest {
+
+    private final StatStore store = StatStore.getInstance();
+    private GameWorld world;
+    private GameWorld other;
+
+    @BeforeEach
+    void setUp() {
+        world = GameWorld.create(new GameLogger(null));
+        world.setClock(new VirtualClock());
+        other = GameWorld.create(new GameLogger(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        world.stopGame();
+        other.stopGame();
+    }
+
+    private static Warrior inWorld(int worldId, int health) {
+        Warrior w = new Warrior("w");
+        w.setHealth(health);
+        w.setWorldId(worldId);
+        return w;
+    }
+
+    @Test
+    void damageHitsOnlyTheLivingCharactersOfTheWorld() {
+        Warrior a = inWorld(world.getId(), 100);
+        Warrior b = inWorld(world.getId(), 30);
+        Warrior dead = inWorld(world.getId(), 0);
+        Warrior elsewhere = inWorld(other.getId(), 100);
+        Warrior nowhere = inWorld(StatStore.NO_WORLD, 100);
+
+        assertEquals(2, store.damage(world.getId(), 10));
+        assertEquals(90, a.getHealth());
+        assertEquals(20, b.getHealth());
+        assertEquals(0, dead.getHealth());
+        assertEquals(100, elsewhere.getHealth());
+        assertEquals(100, nowhere.getHealth());
+    }
+
+    @Test
+    void damageLeavesCharactersWithModifiersToTheWorld() {
+        world.runInWorld(() -> {
+            Warrior plain = inWorld(world.getId(), 100);
+            Warrior shielded = inWorld(world.getId(), 100);
+            world.getDecoratorManager().applyPlayerDecorator(shielded,
+                    DecoratorManager.PlayerDecoratorType.SHIELDED, 30);
+
+            assertEquals(1, store.damage(world.getId(), 10));
+            assertEquals(90, plain.getHealth());
+            assertEquals(100, shielded.getHealth());
+        });
+    }
+
+    @Test
+    void addPowerFollowsCharactersBetweenWorlds() {
+        Warrior a = inWorld(world.getId(), 100);
+        Warrior b = inWorld(world.getId(), 100);
+        a.setPower(5);
+        b.setPower(5);
+        assertEquals(2, store.getWorldSlots(world.getId()));
+
+        b.setWorldId(other.getId());
+        assertEquals(1, store.getWorldSlots(world.getId()));
+        assertEquals(1, store.addPower(world.getId(), 3));
+        assertEquals(1, store.addPower(other.getId(), 7));
+        assertEquals(8, a.getBasePower());
+        assertEquals(12, b.getBasePower());
+
+        a.setWorldId(StatStore.NO_WORLD);
+        assertEquals(0, store.getWorldSlots(world.getId()));
+    }
+
+    @Test
+    void decoratorsTakeNoSlotAndActOnTheirCharacter() {
+        world.runInWorld(() -> {
+            Warrior w = inWorld(world.getId(), 100);
+            int live = store.getLiveSlots();
+            DecoratorManager manager = world.getDecoratorManager();
+            manager.applyPlayerDecorator(w, DecoratorManager.PlayerDecoratorType.SHIELDED, 30);
+            CharacterDecorator shielded = manager.getActiveDecorators(w).get(0);
+            assertTrue(store.getLiveSlots() <= live, "the decorator allocated a slot");
+
+            assertSame(w.getModifiers(), shielded.getModifiers());
+            assertEquals(world.getId(), shielded.getWorldId());
+            shielded.setWorldId(other.getId());
+            assertEquals(other.getId(), w.getWorldId());
+            shielded.setModifiers(null);
+            assertNull(w.getModifiers());
+        });
+    }
+}
@@ -0,0 +1,88 @@
+package game.Model.combat;
+
+import game.Model.characters.Warrior;
+import game.Model.map.Position;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchCombatResolverTest {
+
+    private static Warrior warrior(int col) {
+        Warrior w = new Warrior("w" + col);
+        w.setPosition(new Position(0, col));
+        return w;
+    }
+
+    @Test
+    void independentFightsShareOneWave() {
+        Warrior a = warrior(0), b = warrior(1), c = warrior(2), d = warrior(3);
+        List<int[]> waves = BatchCombatResolver.waves(List.of(new Engagement(a, b), new Engagement(c, d)));
+        assertEquals(1, waves.size());
+        assertArrayEquals(new int[] {0, 1}, waves.get(0));
+    }
+
+    @Test
+    void aCombatantFightsItsEngagementsInOrder() {
+        Warrior player = warrior(0), x = warrior(1), y = warrior(2), z = warrior(3), other = warrior(4);
+        List<Engagement> engagements = List.of(
+                new Engagement(player, x),
+                new Engagement(y, z),
+                new Engagement(player, y),
+                new Engagement(other, x),
+                new Engagement(z, player));
+
+        List<int[]> waves = BatchCombatResolver.waves(engagements);
+        assertEquals(3, waves.size());
+        assertArrayEquals(new int[] {0, 1}, waves.get(0));
+        assertArrayEquals(new int[] {2, 3}, waves.get(1));
+        assertArrayEquals(new int[] {4}, waves.get(2));
+    }
+
+    @Test
+    void noWaveHoldsACombatantTwice() {
+        List<Warrior> fighters = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            fighters.add(warrior(i));
+        }
+        List<Engagement> engagements = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            for (int j = i + 1; j < 6; j++) {
+                engagements.add(new Engagement(fighters.get(i), fighters.get(j)));
+            }
+        }
+
+        int seen = 0;
+        for (int[] wave : BatchCombatResolver.waves(engagements)) {
+            Set<Combatant> fighting = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int i : wave) {
+                assertTrue(fighting.add(engagements.get(i).getAttacker()));
+                assertTrue(fighting.add(engagements.get(i).getDefender()));
+            }
+            seen += wave.length;
+        }
+        assertEquals(engagements.size(), seen);
+    }
+
+    @Test
+    void resolveReturnsAResultForEveryEngagementInOrder() {
+        List<Engagement> engagements = new ArrayList<>();
+        for (int i = 0; i < 8; i += 2) {
+            engagements.add(new Engagement(warrior(i), warrior(i + 1)));
+        }
+        List<BattleResult> results = new BatchCombatResolver(ForkJoinPool.commonPool(), 50).resolve(engagements);
+        assertEquals(engagements.size(), results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(engagements.get(i).getDefender().getName(), results.get(i).getEnemyName());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package game.Model.combat;
+
+import game.Model.characters.Warrior;
+import game.Model.map.Position;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CombatEngineTest {
+
+    private static Warrior warrior(int row, int col, double evasion) {
+        Warrior w = new Warrior("w" + col);
+        w.setPosition(new Position(row, col));
+        w.setEvasionChance(evasion);
+        return w;
+    }
+
+    @Test
+    void fightAtTheRoundLimitIsCalledOff() {
+        // both evade every hit, neither can win
+        Warrior a = warrior(0, 0, 1.0);
+        Warrior b = warrior(0, 1, 1.0);
+        CombatEngine engine = new CombatEngine(a, b, 7);
+
+        BattleResult result = engine.runToEnd();
+        assertEquals(CombatEngine.Status.ROUND_LIMIT, engine.getStatus());
+        assertEquals(7, result.getRounds());
+        assertTrue(result.isCalledOff());
+        assertTrue(result.toString().endsWith("called off"));
+    }
+
+    @Test
+    void fightThatEndsIsNotCalledOff() {
+        Warrior a = warrior(0, 0, 0.0);
+        Warrior b = warrior(0, 1, 0.0);
+        b.setHealth(1);
+        a.setPower(50);
+
+        BattleResult result = new CombatEngine(a, b, 7).runToEnd();
+        assertTrue(b.isDead());
+        assertFalse(result.isCalledOff());
+    }
+
+    @Test
+    void fightOutOfRangeIsNotCalledOff() {
+        CombatEngine engine = new CombatEngine(warrior(0, 0, 0.0), warrior(9, 9, 0.0), 7);
+        assertFalse(engine.runToEnd().isCalledOff());
+        assertEquals(CombatEngine.Status.OUT_OF_RANGE, engine.getStatus());
+    }
+}
@@ -0,0 +1,63 @@
+package game.Model.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PoolTest {
+
+    @Test
+    void takeReturnsNullWhenEmptyAndCountsTheMiss() {
+        Pool<Object> pool = new Pool<>("p", 4);
+        assertNull(pool.take());
+        assertEquals(1, pool.getMisses());
+    }
+
+    @Test
+    void givesBackTheLastObjectGivenFirst() {
+        Pool<Object> pool = new Pool<>("p", 4);
+        Object a = new Object();
+        Object b = new Object();
+        assertTrue(pool.give(a));
+        assertTrue(pool.give(b));
+
+        assertSame(b, pool.take());
+        assertSame(a, pool.take());
+        assertNull(pool.take());
+        assertEquals(2, pool.getReused());
+        assertEquals(2, pool.getReturned());
+    }
+
+    @Test
+    void dropsObjectsAboveTheCapacity() {
+        Pool<Object> pool = new Pool<>("p", 1);
+        assertTrue(pool.give(new Object()));
+        assertFalse(pool.give(new Object()));
+        assertEquals(1, pool.getIdle());
+        assertEquals(1, pool.getDropped());
+    }
+
+    @Test
+    void shrinkingTheCapacityDropsIdleObjects() {
+        Pool<Object> pool = new Pool<>("p", 8);
+        for (int i = 0; i < 5; i++) {
+            pool.give(new Object());
+        }
+        pool.setCapacity(2);
+        assertEquals(2, pool.getIdle());
+
+        pool.setCapacity(0);
+        assertFalse(pool.give(new Object()));
+        assertNull(pool.take());
+    }
+
+    @Test
+    void rejectsANegativeCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new Pool<>("p", -1));
+    }
+}
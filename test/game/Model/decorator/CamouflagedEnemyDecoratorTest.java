@@ -0,0 +1,74 @@
+package game.Model.decorator;
+
+import game.Model.characters.Orc;
+import game.Model.characters.Warrior;
+import game.Model.combat.CombatEngine;
+import game.Model.engine.GameWorld;
+import game.Model.engine.VirtualClock;
+import game.Model.map.Position;
+import game.Util.GameLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CamouflagedEnemyDecoratorTest {
+
+    private GameWorld world;
+
+    @BeforeEach
+    void setUp() {
+        world = GameWorld.create(new GameLogger(null));
+        world.setClock(new VirtualClock());
+    }
+
+    @AfterEach
+    void tearDown() {
+        world.stopGame();
+    }
+
+    @Test
+    void blocksHitsUntilTheEnemyStrikes() {
+        world.runInWorld(() -> {
+            Orc orc = new Orc(world);
+            orc.setPosition(new Position(0, 0));
+            orc.setEvasionChance(0.0);
+            Warrior warrior = new Warrior("w");
+            warrior.setPosition(new Position(0, 1));
+            warrior.setEvasionChance(0.0);
+            world.getDecoratorManager().applyEnemyDecorator(orc, DecoratorManager.EnemyDecoratorType.CAMOUFLAGED, 30);
+
+            orc.receiveDamage(10, warrior);
+            assertEquals(50, orc.getHealth(), "camouflage blocks the hit");
+
+            // the orc strikes first, the warrior's strike back is the next hit
+            new CombatEngine(orc, warrior, 1).step();
+            assertTrue(orc.getHealth() < 50, "the strike back lands");
+
+            int health = orc.getHealth();
+            orc.receiveDamage(10, warrior);
+            assertEquals(health - 10, orc.getHealth());
+        });
+    }
+
+    @Test
+    void simulationCopyOpensItsOwnGateOnly() {
+        world.runInWorld(() -> {
+            Orc orc = new Orc(world);
+            orc.setEvasionChance(0.0);
+            world.getDecoratorManager().applyEnemyDecorator(orc, DecoratorManager.EnemyDecoratorType.CAMOUFLAGED, 30);
+
+            Orc copy = (Orc) orc.copyForSimulation();
+            copy.receiveDamage(10, null);
+            assertEquals(50, copy.getHealth());
+            copy.struck();
+            copy.receiveDamage(10, null);
+            assertEquals(40, copy.getHealth());
+
+            orc.receiveDamage(10, null);
+            assertEquals(50, orc.getHealth(), "the live camouflage is untouched");
+        });
+    }
+}
@@ -0,0 +1,124 @@
+package game.Model.decorator;
+
+import game.Model.characters.Warrior;
+import game.Model.engine.GameWorld;
+import game.Model.engine.VirtualClock;
+import game.Util.GameLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DecoratorManagerTest {
+
+    private GameWorld world;
+    private VirtualClock clock;
+    private DecoratorManager manager;
+
+    @BeforeEach
+    void setUp() {
+        world = GameWorld.create(new GameLogger(null));
+        clock = new VirtualClock();
+        world.setClock(clock);
+        manager = world.getDecoratorManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        world.stopGame();
+    }
+
+    private Warrior warrior(int power) {
+        Warrior w = new Warrior("w");
+        w.setPower(power);
+        return w;
+    }
+
+    @Test
+    void applyCompilesThePipelineOfTheCharacter() {
+        world.runInWorld(() -> {
+            Warrior w = warrior(10);
+            assertNull(w.getModifiers());
+
+            manager.applyPlayerDecorator(w, DecoratorManager.PlayerDecoratorType.BOOSTED_ATTACK, 10);
+
+            assertNotNull(w.getModifiers());
+            assertEquals(15, w.getPower());
+            assertEquals(10, w.getBasePower());
+            assertEquals(1, manager.getActiveDecorators(w).size());
+        });
+    }
+
+    @Test
+    void expiryRecompilesAndFinallyClearsThePipeline() {
+        world.runInWorld(() -> {
+            Warrior w = warrior(10);
+            manager.applyPlayerDecorator(w, DecoratorManager.PlayerDecoratorType.BOOSTED_ATTACK, 10);
+            manager.applyPlayerDecorator(w, DecoratorManager.PlayerDecoratorType.SHIELDED, 30);
+
+            clock.advance(15_000);
+            manager.cleanupExpiredDecorators();
+            assertEquals(1, manager.getActiveDecorators(w).size());
+            assertNotNull(w.getModifiers(), "the shield is still compiled");
+            assertEquals(10, w.getPower());
+
+            clock.advance(20_000);
+            manager.cleanupExpiredDecorators();
+            assertTrue(manager.getActiveDecorators(w).isEmpty());
+            assertNull(w.getModifiers());
+            assertTrue(manager.getDecoratedCharacters().isEmpty());
+        });
+    }
+
+    @Test
+    void removeAllDecoratorsClearsThePipeline() {
+        world.runInWorld(() -> {
+            Warrior w = warrior(10);
+            manager.applyPlayerDecorator(w, DecoratorManager.PlayerDecoratorType.MAGIC_AMPLIFIER, 20);
+            manager.removeAllDecorators(w);
+            assertNull(w.getModifiers());
+            assertEquals(10, w.getPower());
+        });
+    }
+
+    @Test
+    void decoratorAppliedDuringCleanupIsKept() throws InterruptedException {
+        for (int round = 0; round < 1000; round++) {
+            Warrior w = warrior(10);
+            world.runInWorld(() -> manager.applyPlayerDecorator(w,
+                    DecoratorManager.PlayerDecoratorType.BOOSTED_ATTACK, 1));
+            clock.advance(2_000);
+
+            CountDownLatch start = new CountDownLatch(1);
+            Thread cleaner = new Thread(() -> world.runInWorld(() -> {
+                await(start);
+                manager.cleanupExpiredDecorators();
+            }));
+            cleaner.start();
+            world.runInWorld(() -> {
+                start.countDown();
+                manager.applyPlayerDecorator(w, DecoratorManager.PlayerDecoratorType.SHIELDED, 30);
+            });
+            cleaner.join();
+            manager.cleanupExpiredDecorators();
+
+            assertEquals(1, manager.getActiveDecorators(w).size(), "round " + round);
+            assertNotNull(w.getModifiers(), "round " + round);
+            manager.removeAllDecorators(w);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package game.Model.engine;
+
+import game.Controller.GameEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotificationBusTest {
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void tearDown() {
+        timer.shutdownNow();
+    }
+
+    @Test
+    void afterDeliveryRunsOnceTheEarlierEventsWereDelivered() throws InterruptedException {
+        List<String> seen = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        NotificationBus bus = new NotificationBus(events -> {
+            synchronized (seen) {
+                events.forEach(e -> seen.add(e.toString()));
+            }
+        }, timer);
+
+        bus.post(new GameEvent.WaveApplied(GameEvent.WaveApplied.Kind.DAMAGE, 5, List.of()));
+        bus.afterDelivery(() -> {
+            synchronized (seen) {
+                seen.add("recycled");
+            }
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        synchronized (seen) {
+            assertEquals(2, seen.size());
+            assertTrue(seen.get(0).startsWith("WaveApplied"));
+            assertEquals("recycled", seen.get(1));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package game.Model.map;
+
+import game.Model.characters.Warrior;
+import game.Model.core.GameEntity;
+import game.Model.engine.GameWorld;
+import game.Util.GameLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class GameMapTest {
+
+    private static final int MOVES = 20_000;
+
+    private GameWorld world;
+    private Warrior player;
+
+    @BeforeEach
+    void setUp() {
+        world = GameWorld.create(new GameLogger(null));
+        player = new Warrior("p");
+        world.initialize(List.of(player), new ArrayList<>(), new ArrayList<>());
+    }
+
+    @AfterEach
+    void tearDown() {
+        world.stopGame();
+    }
+
+    // an empty board with two warriors that walk back and forth inside the first region
+    private GameMap board(GameMap.StorageMode storage, List<Warrior> walkers) {
+        GameMap map = new GameMap(20, 20, player, world, storage, GameMap.LockMode.STRIPED);
+        map.clearAll();
+        for (int r = 0; r < 2; r++) {
+            Warrior w = new Warrior("w" + r);
+            map.addEntity(map.positionAt(r, 0), w);
+            walkers.add(w);
+        }
+        return map;
+    }
+
+    private static Thread walk(GameMap map, Warrior w, AtomicBoolean running) {
+        Thread t = new Thread(() -> {
+            for (int i = 0; i < MOVES; i++) {
+                map.moveEntity(w, i % 2 == 0 ? "right" : "left");
+            }
+            running.set(false);
+        });
+        t.start();
+        return t;
+    }
+
+    @ParameterizedTest
+    @EnumSource(GameMap.StorageMode.class)
+    void allEntitiesSeesEveryWalkerOnceWhileTheyMove(GameMap.StorageMode storage) throws InterruptedException {
+        List<Warrior> walkers = new ArrayList<>();
+        GameMap map = board(storage, walkers);
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Thread> threads = new ArrayList<>();
+        walkers.forEach(w -> threads.add(walk(map, w, running)));
+
+        AtomicReference<String> failure = new AtomicReference<>();
+        while (running.get() && failure.get() == null) {
+            try {
+                List<GameEntity> all = map.getAllEntities();
+                if (all.size() != 2 || !all.containsAll(walkers)) {
+                    failure.set("saw " + all);
+                }
+            } catch (RuntimeException e) {
+                failure.set(e.toString());
+            }
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertNull(failure.get());
+        assertEquals(2, map.getAllEntities().size());
+    }
+
+    @ParameterizedTest
+    @EnumSource(GameMap.StorageMode.class)
+    void cellReadsSeeWholeMovesWhileTheyHappen(GameMap.StorageMode storage) throws InterruptedException {
+        List<Warrior> walkers = new ArrayList<>();
+        GameMap map = board(storage, walkers);
+        Warrior walker = walkers.get(0);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread t = walk(map, walker, running);
+
+        Position left = map.positionAt(0, 0);
+        Position right = map.positionAt(0, 1);
+        AtomicReference<String> failure = new AtomicReference<>();
+        while (running.get() && failure.get() == null) {
+            for (Position p : List.of(left, right)) {
+                List<GameEntity> seen = map.getEntities(p);
+                if (seen.size() > 1 || (seen.size() == 1 && seen.get(0) != walker)) {
+                    failure.set(p + " held " + seen);
+                }
+                map.isPositionFree(p);
+            }
+        }
+        t.join();
+        assertNull(failure.get());
+        assertEquals(1, map.getEntities(left).size() + map.getEntities(right).size());
+    }
+}
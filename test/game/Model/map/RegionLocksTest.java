@@ -0,0 +1,64 @@
+package game.Model.map;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RegionLocksTest {
+
+    @Test
+    void regionsCoverTheBoard() {
+        RegionLocks locks = new RegionLocks(40, 20, GameMap.LockMode.STRIPED);
+        int size = locks.regionSize();
+        for (int region = 0; region < locks.regionCount(); region++) {
+            int top = locks.regionTop(region);
+            int left = locks.regionLeft(region);
+            assertEquals(region, locks.regionOf(top, left));
+            assertEquals(region, locks.regionOf(Math.min(39, top + size - 1), Math.min(19, left + size - 1)));
+        }
+    }
+
+    @Test
+    void optimisticReadFailsAcrossAWrite() {
+        RegionLocks locks = new RegionLocks(20, 20, GameMap.LockMode.STRIPED);
+        long stamp = locks.tryOptimisticRead(0);
+        assertTrue(locks.lock(0, 100));
+        assertTrue(locks.tryOptimisticRead(0) < 0, "a write is in progress");
+        locks.unlock(0);
+        assertFalse(locks.validate(0, stamp));
+        assertTrue(locks.validate(0, locks.tryOptimisticRead(0)));
+    }
+
+    @Test
+    void readerWaitsForAWriterThatHoldsTheRegionLongerThanTheTimeout() throws InterruptedException {
+        RegionLocks locks = new RegionLocks(20, 20, GameMap.LockMode.STRIPED);
+        CountDownLatch held = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            locks.lock(0, 100);
+            held.countDown();
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writing.set(false);
+            locks.unlock(0);
+        });
+        writer.start();
+        held.await();
+
+        locks.lockForRead(0);
+        try {
+            assertFalse(writing.get(), "read while the write was in progress");
+        } finally {
+            locks.unlockRead(0);
+        }
+        writer.join();
+    }
+}